@@ -0,0 +1,95 @@
+package org.di.digital.config.executor;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Named virtual-thread executors for blocking work that backs an SSE response, and for
+ * fan-out of blocking uploads ({@link Workload#UPLOAD}) and SSE heartbeat sends
+ * ({@link Workload#HEARTBEAT}). Each task
+ * gets its own virtual thread ({@code vt-<workload>-N}), so blocking on a model call or
+ * the database costs no platform thread; concurrency towards the model services is
+ * bounded by their bulkheads instead of by pool sizes.
+ * <p>
+ * Tasks are tied to the emitter they feed: when it times out or fails (client gone,
+ * generation abandoned) the task is interrupted, which aborts a blocked WebClient call.
+ * Pinning is reported by the JVM via {@code -Djdk.tracePinnedThreads}.
+ */
+@Slf4j
+@Component
+public class WorkloadExecutors {
+
+    public enum Workload { CHAT, GENERATION, INTERROGATION, UPLOAD, HEARTBEAT }
+
+    private final Map<Workload, ExecutorService> executors = new EnumMap<>(Workload.class);
+
+    public WorkloadExecutors() {
+        for (Workload workload : Workload.values()) {
+            String prefix = "vt-" + workload.name().toLowerCase(Locale.ROOT) + "-";
+            executors.put(workload, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 0).factory()));
+        }
+    }
+
+    /**
+     * Runs {@code body} on the workload's executor with the caller's request attributes
+     * and interrupts it once {@code emitter} times out or fails.
+     */
+    public Future<?> submit(Workload workload, SseEmitter emitter, Runnable body) {
+        Future<?> task = submit(workload, RequestContextHolder.getRequestAttributes(), body);
+        emitter.onTimeout(() -> task.cancel(true));
+        emitter.onError(error -> task.cancel(true));
+        return task;
+    }
+
+    /**
+     * Runs {@code body} with the given request attributes; for callbacks that fire on
+     * Reactor threads, where the attributes have to be captured beforehand.
+     */
+    public Future<?> submit(Workload workload, RequestAttributes attrs, Runnable body) {
+        return executors.get(workload).submit(() -> {
+            RequestContextHolder.setRequestAttributes(attrs);
+            try {
+                body.run();
+            } finally {
+                RequestContextHolder.resetRequestAttributes();
+            }
+        });
+    }
+
+    /**
+     * The workload's executor for callers that manage their own futures, e.g.
+     * {@code CompletableFuture.supplyAsync}. Shut down with the context.
+     */
+    public Executor executor(Workload workload) {
+        return executors.get(workload);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.forEach((workload, executor) -> {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("Interrupting unfinished {} tasks on shutdown", workload);
+                    executor.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+}
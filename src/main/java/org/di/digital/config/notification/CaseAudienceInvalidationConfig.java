@@ -0,0 +1,31 @@
+package org.di.digital.config.notification;
+
+import org.di.digital.service.impl.core.notification.CaseAudienceCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Applies audience evictions published by other nodes. Enable on multi-node deployments
+ * with {@code notification.audience-cache.redis-invalidation.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "notification.audience-cache.redis-invalidation.enabled", havingValue = "true")
+public class CaseAudienceInvalidationConfig {
+
+    @Bean
+    public RedisMessageListenerContainer caseAudienceListenerContainer(RedisConnectionFactory cf,
+                                                                       CaseAudienceCache cache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(
+                (message, pattern) -> cache.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CaseAudienceCache.INVALIDATION_CHANNEL));
+        return container;
+    }
+}
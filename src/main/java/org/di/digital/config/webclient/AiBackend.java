@@ -0,0 +1,20 @@
+package org.di.digital.config.webclient;
+
+/**
+ * Python model services the backend talks to. Each one gets its own long-lived
+ * {@link org.springframework.web.reactive.function.client.WebClient} and connection pool,
+ * see {@link AiWebClientRegistry}.
+ */
+public enum AiBackend {
+    QUALIFICATION,
+    QUALIFICATION_ANALYTICS,
+    INDICTMENT,
+    CHAT,
+    INTERROGATION,
+    REFORMULATE,
+    TREE,
+    INDEX,
+    PLAN,
+    FIGURANT,
+    OSMOTR
+}
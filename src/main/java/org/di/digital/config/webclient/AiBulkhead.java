@@ -0,0 +1,251 @@
+package org.di.digital.config.webclient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.di.digital.exception.AiBackendBusyException;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits concurrent calls to one {@link AiBackend}. Calls beyond {@code maxConcurrentCalls}
+ * wait in a bounded queue; when the queue is full, or a call waited longer than
+ * {@code maxWait}, it fails fast with {@link AiBackendBusyException}.
+ * <p>
+ * Interactive calls are always dequeued before batch ones, and batch calls may hold at
+ * most {@code maxBatchConcurrentCalls} permits, so background jobs cannot take the
+ * whole backend away from users. Mark a request as batch with
+ * {@code .attribute(AiBulkhead.PRIORITY_ATTRIBUTE, Priority.BATCH)}.
+ * <p>
+ * A permit is held until the response body has been fully read, which keeps streamed
+ * generations counted for their whole duration. An exchange that ends without a
+ * response (connect error, cancellation before headers) releases it right away; the
+ * permit is released at most once.
+ */
+public class AiBulkhead implements ExchangeFilterFunction {
+
+    public static final String PRIORITY_ATTRIBUTE = AiBulkhead.class.getName() + ".priority";
+
+    public enum Priority { INTERACTIVE, BATCH }
+
+    private final AiBackend backend;
+    private final int maxConcurrent;
+    private final int maxBatchConcurrent;
+    private final int maxQueued;
+    private final Duration maxWait;
+
+    private final Deque<Waiter> interactiveQueue = new ArrayDeque<>();
+    private final Deque<Waiter> batchQueue = new ArrayDeque<>();
+    private int active;
+    private int batchActive;
+
+    private final Timer waitTimer;
+    private final Counter interactiveRejected;
+    private final Counter batchRejected;
+
+    AiBulkhead(AiBackend backend, AiWebClientProperties.Backend settings, MeterRegistry meterRegistry) {
+        this.backend = backend;
+        this.maxConcurrent = settings.getMaxConcurrentCalls();
+        this.maxBatchConcurrent = Math.min(settings.getMaxBatchConcurrentCalls(), maxConcurrent);
+        this.maxQueued = settings.getMaxQueuedCalls();
+        this.maxWait = settings.getMaxWait();
+
+        String tag = backend.name().toLowerCase(Locale.ROOT);
+        Gauge.builder("ai.bulkhead.active", this, AiBulkhead::activeCount)
+                .description("AI calls currently holding a bulkhead permit")
+                .tag("backend", tag)
+                .register(meterRegistry);
+        Gauge.builder("ai.bulkhead.queued", this, AiBulkhead::queuedCount)
+                .description("AI calls waiting for a bulkhead permit")
+                .tag("backend", tag)
+                .register(meterRegistry);
+        Gauge.builder("ai.bulkhead.max", () -> maxConcurrent)
+                .description("Bulkhead permit limit")
+                .tag("backend", tag)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("ai.bulkhead.wait")
+                .description("Time spent waiting for a bulkhead permit")
+                .tag("backend", tag)
+                .register(meterRegistry);
+        this.interactiveRejected = rejectedCounter(meterRegistry, tag, Priority.INTERACTIVE);
+        this.batchRejected = rejectedCounter(meterRegistry, tag, Priority.BATCH);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Priority priority = request.attribute(PRIORITY_ATTRIBUTE)
+                .map(Priority.class::cast)
+                .orElse(Priority.INTERACTIVE);
+
+        return acquire(priority).flatMap(permit -> {
+            AtomicBoolean responded = new AtomicBoolean();
+            return next.exchange(request)
+                    .doOnNext(response -> responded.set(true))
+                    .map(response -> response.mutate()
+                            .body(body -> body.doFinally(signal -> permit.release()))
+                            .build())
+                    // no response to hand the permit to: error, cancel or an empty exchange
+                    .doFinally(signal -> {
+                        if (!responded.get()) permit.release();
+                    });
+        });
+    }
+
+    private Mono<Permit> acquire(Priority priority) {
+        return Mono.<Permit>create(sink -> enqueue(priority, sink))
+                .timeout(maxWait, Mono.error(() -> reject(priority)));
+    }
+
+    private void enqueue(Priority priority, MonoSink<Permit> sink) {
+        Permit granted = null;
+        Waiter waiter = null;
+        synchronized (this) {
+            if (canStart(priority)) {
+                granted = start(priority);
+            } else if (interactiveQueue.size() + batchQueue.size() < maxQueued) {
+                waiter = new Waiter(priority, sink, System.nanoTime());
+                queueFor(priority).addLast(waiter);
+            }
+        }
+
+        if (granted != null) {
+            waitTimer.record(0, TimeUnit.NANOSECONDS);
+            sink.success(granted);
+        } else if (waiter != null) {
+            Waiter queued = waiter;
+            sink.onCancel(() -> abandon(queued));
+        } else {
+            sink.error(reject(priority));
+        }
+    }
+
+    private void abandon(Waiter waiter) {
+        Permit handedOver;
+        synchronized (this) {
+            if (queueFor(waiter.priority()).remove(waiter)) return;
+            handedOver = waiter.permit;
+        }
+        // the permit was handed over concurrently with the cancellation
+        if (handedOver != null) {
+            handedOver.release();
+        }
+    }
+
+    private void release(Permit permit) {
+        Waiter next;
+        synchronized (this) {
+            active--;
+            if (permit.priority == Priority.BATCH) {
+                batchActive--;
+            }
+            next = pollNext();
+            if (next != null) {
+                next.permit = start(next.priority());
+            }
+        }
+        if (next != null) {
+            waitTimer.record(System.nanoTime() - next.enqueuedAt(), TimeUnit.NANOSECONDS);
+            next.sink().success(next.permit);
+        }
+    }
+
+    private Waiter pollNext() {
+        if (active >= maxConcurrent) return null;
+        if (!interactiveQueue.isEmpty()) return interactiveQueue.pollFirst();
+        if (batchActive < maxBatchConcurrent) return batchQueue.pollFirst();
+        return null;
+    }
+
+    private boolean canStart(Priority priority) {
+        if (active >= maxConcurrent) return false;
+        if (priority == Priority.BATCH) {
+            return batchActive < maxBatchConcurrent && interactiveQueue.isEmpty();
+        }
+        return interactiveQueue.isEmpty();
+    }
+
+    private Permit start(Priority priority) {
+        active++;
+        if (priority == Priority.BATCH) {
+            batchActive++;
+        }
+        return new Permit(priority);
+    }
+
+    private Deque<Waiter> queueFor(Priority priority) {
+        return priority == Priority.BATCH ? batchQueue : interactiveQueue;
+    }
+
+    private AiBackendBusyException reject(Priority priority) {
+        (priority == Priority.BATCH ? batchRejected : interactiveRejected).increment();
+        return new AiBackendBusyException(backend);
+    }
+
+    private synchronized int activeCount() {
+        return active;
+    }
+
+    private synchronized int queuedCount() {
+        return interactiveQueue.size() + batchQueue.size();
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String backend, Priority priority) {
+        return Counter.builder("ai.bulkhead.rejected")
+                .description("AI calls rejected because the bulkhead was saturated")
+                .tag("backend", backend)
+                .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+    }
+
+    private final class Permit {
+        private final Priority priority;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(Priority priority) {
+            this.priority = priority;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                AiBulkhead.this.release(this);
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final Priority priority;
+        private final MonoSink<Permit> sink;
+        private final long enqueuedAt;
+        private Permit permit;
+
+        private Waiter(Priority priority, MonoSink<Permit> sink, long enqueuedAt) {
+            this.priority = priority;
+            this.sink = sink;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        Priority priority() {
+            return priority;
+        }
+
+        MonoSink<Permit> sink() {
+            return sink;
+        }
+
+        long enqueuedAt() {
+            return enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package org.di.digital.config.webclient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency and throughput of model calls, tagged by {@code backend} and {@code endpoint}:
+ * <ul>
+ *   <li>{@code ai.llm.connect} – request start to response headers;</li>
+ *   <li>{@code ai.llm.ttft} – request start to the first body byte, i.e. the first token
+ *       for streamed endpoints and the whole answer for blocking ones;</li>
+ *   <li>{@code ai.llm.duration} – request start to the end of the body, tagged with
+ *       {@code outcome} (success, error, cancelled);</li>
+ *   <li>{@code ai.llm.response.bytes} and, for {@code text/event-stream} responses,
+ *       {@code ai.llm.tokens.per.second} – the model services emit one event per token.</li>
+ * </ul>
+ * Callers name the endpoint with {@code .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "...")};
+ * it must be a fixed label, never a raw path with case numbers.
+ */
+public class AiCallMetrics implements ExchangeFilterFunction {
+
+    public static final String ENDPOINT_ATTRIBUTE = AiCallMetrics.class.getName() + ".endpoint";
+
+    private static final String DEFAULT_ENDPOINT = "other";
+    private static final byte[] EVENT_DELIMITER = {'\n', '\n'};
+    private static final Duration[] LATENCY_SLOS = {
+            Duration.ofMillis(250), Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2),
+            Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(30), Duration.ofMinutes(1),
+            Duration.ofMinutes(2), Duration.ofMinutes(5), Duration.ofMinutes(10)
+    };
+    private static final double[] TOKEN_RATE_SLOS = {1, 5, 10, 20, 40, 80, 160};
+
+    private final String backend;
+    private final MeterRegistry meterRegistry;
+
+    AiCallMetrics(AiBackend backend, MeterRegistry meterRegistry) {
+        this.backend = backend.name().toLowerCase(Locale.ROOT);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        Tags tags = Tags.of("backend", backend, "endpoint", request.attribute(ENDPOINT_ATTRIBUTE)
+                .map(String::valueOf)
+                .orElse(DEFAULT_ENDPOINT));
+
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return next.exchange(request)
+                    .doOnNext(response -> latency("ai.llm.connect", "Time to response headers", tags)
+                            .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS))
+                    .doOnError(error -> finish(tags, "error", startedAt))
+                    .doOnCancel(() -> finish(tags, "cancelled", startedAt))
+                    .map(response -> response.mutate()
+                            .body(body -> {
+                                BodyStats stats = new BodyStats(isEventStream(response));
+                                return body
+                                        .doOnNext(buffer -> stats.onBuffer(buffer, tags, startedAt))
+                                        .doFinally(signal -> stats.onFinish(signal, tags, startedAt));
+                            })
+                            .build());
+        });
+    }
+
+    private boolean isEventStream(ClientResponse response) {
+        return response.headers().contentType()
+                .map(MediaType.TEXT_EVENT_STREAM::isCompatibleWith)
+                .orElse(false);
+    }
+
+    private void finish(Tags tags, String outcome, long startedAt) {
+        latency("ai.llm.duration", "Total model call duration", tags.and("outcome", outcome))
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        Counter.builder("ai.llm.calls")
+                .description("Model calls by outcome")
+                .tags(tags.and("outcome", outcome))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer latency(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .serviceLevelObjectives(LATENCY_SLOS)
+                .register(meterRegistry);
+    }
+
+    private final class BodyStats {
+        private final boolean eventStream;
+        private final AtomicBoolean first = new AtomicBoolean(true);
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong events = new AtomicLong();
+        private volatile long firstByteAt;
+        private int delimiterMatched;
+
+        private BodyStats(boolean eventStream) {
+            this.eventStream = eventStream;
+        }
+
+        void onBuffer(DataBuffer buffer, Tags tags, long startedAt) {
+            if (first.getAndSet(false)) {
+                firstByteAt = System.nanoTime();
+                latency("ai.llm.ttft", "Time to first response byte", tags)
+                        .record(firstByteAt - startedAt, TimeUnit.NANOSECONDS);
+            }
+            bytes.addAndGet(buffer.readableByteCount());
+            if (eventStream) {
+                countEvents(buffer);
+            }
+        }
+
+        // buffers arrive one at a time, so the delimiter state needs no further guarding
+        private void countEvents(DataBuffer buffer) {
+            int end = buffer.readPosition() + buffer.readableByteCount();
+            for (int i = buffer.readPosition(); i < end; i++) {
+                byte b = buffer.getByte(i);
+                if (b == EVENT_DELIMITER[delimiterMatched]) {
+                    if (++delimiterMatched == EVENT_DELIMITER.length) {
+                        events.incrementAndGet();
+                        delimiterMatched = 0;
+                    }
+                } else if (b != '\r') {
+                    delimiterMatched = 0;
+                }
+            }
+        }
+
+        void onFinish(SignalType signal, Tags tags, long startedAt) {
+            String outcome = switch (signal) {
+                case ON_COMPLETE -> "success";
+                case CANCEL -> "cancelled";
+                default -> "error";
+            };
+            finish(tags, outcome, startedAt);
+
+            DistributionSummary.builder("ai.llm.response.bytes")
+                    .description("Model response size")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(bytes.get());
+
+            if (first.get()) return;
+            long streamedNanos = System.nanoTime() - firstByteAt;
+            if (eventStream && events.get() > 1 && streamedNanos > 0) {
+                DistributionSummary.builder("ai.llm.tokens.per.second")
+                        .description("Streamed events per second after the first token")
+                        .tags(tags)
+                        .serviceLevelObjectives(TOKEN_RATE_SLOS)
+                        .register(meterRegistry)
+                        .record(events.get() * 1e9 / streamedNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.di.digital.config.webclient;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.di.digital.model.enums.log.LogAction;
+import org.di.digital.model.enums.log.LogLevel;
+import org.di.digital.service.LogService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiCircuitAuditListener {
+
+    private final LogService logService;
+
+    @EventListener
+    public void handleStateChange(AiCircuitStateChangedEvent event) {
+        log.warn("AI circuit {}: {} -> {} (failure rate {}%)",
+                event.backend(), event.from(), event.to(), Math.round(event.failureRate()));
+
+        String description = String.format("Сервис %s: %s -> %s, доля ошибок %d%%",
+                event.backend(), event.from(), event.to(), Math.round(event.failureRate()));
+        switch (event.to()) {
+            case OPEN -> logService.log(description, LogLevel.ERROR, LogAction.AI_BACKEND_CIRCUIT_OPENED, null, null);
+            case HALF_OPEN -> logService.log(description, LogLevel.WARNING, LogAction.AI_BACKEND_CIRCUIT_HALF_OPEN, null, null);
+            case CLOSED -> logService.log(description, LogLevel.INFO, LogAction.AI_BACKEND_CIRCUIT_CLOSED, null, null);
+        }
+    }
+}
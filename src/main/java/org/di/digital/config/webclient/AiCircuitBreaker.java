@@ -0,0 +1,286 @@
+package org.di.digital.config.webclient;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.di.digital.exception.AiBackendUnavailableException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Circuit breaker for one {@link AiBackend}. Outcomes of the last {@code circuitWindowSize}
+ * calls are kept; once at least {@code circuitMinimumCalls} were seen and the share of
+ * failures (connection errors, timeouts, 5xx) reaches {@code circuitFailureRateThreshold}
+ * the circuit opens and calls fail immediately with
+ * {@link AiBackendUnavailableException}. After {@code circuitOpenDuration} up to
+ * {@code circuitHalfOpenProbes} calls are let through; if all succeed the circuit closes,
+ * any failure opens it again.
+ * <p>
+ * The wait for response headers is bounded by an adaptive timeout: a multiple of the
+ * observed latency percentile, clamped between {@code minTimeout} and
+ * {@code responseTimeout}. Latencies are kept per endpoint
+ * ({@link AiCallMetrics#ENDPOINT_ATTRIBUTE}), because one backend serves both streamed
+ * calls that answer with headers in milliseconds and blocking generations that send
+ * headers only after minutes. A call without an endpoint label always gets
+ * {@code responseTimeout}. A call that times out counts as a sample at the limit, so
+ * the timeout can grow back. Until enough samples are collected {@code responseTimeout}
+ * is used as is.
+ */
+public class AiCircuitBreaker implements ExchangeFilterFunction {
+
+    public enum State { CLOSED, HALF_OPEN, OPEN }
+
+    private static final int MIN_LATENCY_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 10;
+
+    private final AiBackend backend;
+    private final AiWebClientProperties.Backend settings;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int outcomeIndex;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    private final Map<String, LatencyWindow> latencyWindows = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejected;
+    private final Counter timedOut;
+
+    AiCircuitBreaker(AiBackend backend, AiWebClientProperties.Backend settings,
+                     MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher) {
+        this.backend = backend;
+        this.settings = settings;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.outcomes = new boolean[settings.getCircuitWindowSize()];
+
+        String tag = tag();
+        Gauge.builder("ai.circuit.state", this, breaker -> breaker.currentState().ordinal())
+                .description("Circuit state: 0 closed, 1 half-open, 2 open")
+                .tag("backend", tag)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("ai.circuit.rejected")
+                .description("Calls rejected because the circuit was open")
+                .tag("backend", tag)
+                .register(meterRegistry);
+        this.timedOut = Counter.builder("ai.circuit.timeouts")
+                .description("Calls that exceeded the adaptive response timeout")
+                .tag("backend", tag)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return Mono.defer(() -> {
+            Boolean probe = tryAcquire();
+            if (probe == null) {
+                rejected.increment();
+                return Mono.error(AiBackendUnavailableException.circuitOpen(backend));
+            }
+
+            // unlabeled calls mix fast and long requests, so they keep the fixed timeout
+            LatencyWindow window = latencyWindow(request);
+            Duration limit = window != null ? window.timeout : settings.getResponseTimeout();
+            long startedAt = System.nanoTime();
+            return next.exchange(request)
+                    .timeout(limit)
+                    .doOnNext(response -> {
+                        boolean success = !response.statusCode().is5xxServerError();
+                        if (success && window != null) window.record(System.nanoTime() - startedAt);
+                        onResult(probe, success);
+                    })
+                    .doOnError(error -> {
+                        if (error instanceof TimeoutException && window != null) window.record(limit.toNanos());
+                        onResult(probe, false);
+                    })
+                    .doOnCancel(() -> onCancel(probe))
+                    .onErrorMap(TimeoutException.class, error -> {
+                        timedOut.increment();
+                        return AiBackendUnavailableException.timedOut(backend, limit, error);
+                    });
+        });
+    }
+
+    /**
+     * @return {@code false} for a regular call, {@code true} for a half-open probe,
+     * {@code null} if the call must be rejected
+     */
+    private Boolean tryAcquire() {
+        State from;
+        synchronized (this) {
+            from = state;
+            if (state == State.CLOSED) return false;
+            if (state == State.OPEN) {
+                if (System.currentTimeMillis() - openedAt < settings.getCircuitOpenDuration().toMillis()) {
+                    return null;
+                }
+                state = State.HALF_OPEN;
+                probesInFlight = 0;
+                probeSuccesses = 0;
+            }
+            if (probesInFlight + probeSuccesses >= settings.getCircuitHalfOpenProbes()) {
+                return null;
+            }
+            probesInFlight++;
+        }
+        if (from != State.HALF_OPEN) {
+            publish(from, State.HALF_OPEN, failureRate());
+        }
+        return true;
+    }
+
+    private void onResult(boolean probe, boolean success) {
+        State from;
+        State to;
+        double rate;
+        synchronized (this) {
+            from = state;
+            if (probe) {
+                if (state != State.HALF_OPEN) return;
+                probesInFlight--;
+                if (!success) {
+                    open();
+                } else if (++probeSuccesses >= settings.getCircuitHalfOpenProbes()) {
+                    state = State.CLOSED;
+                    resetWindow();
+                }
+            } else {
+                if (state != State.CLOSED) return;
+                recordOutcome(success);
+                if (outcomeCount >= settings.getCircuitMinimumCalls()
+                        && failureRateLocked() >= settings.getCircuitFailureRateThreshold()) {
+                    open();
+                }
+            }
+            to = state;
+            rate = failureRateLocked();
+        }
+        if (from != to) {
+            publish(from, to, rate);
+        }
+    }
+
+    private synchronized void onCancel(boolean probe) {
+        if (probe && state == State.HALF_OPEN) {
+            probesInFlight--;
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.currentTimeMillis();
+    }
+
+    private void recordOutcome(boolean success) {
+        if (outcomeCount == outcomes.length) {
+            if (!outcomes[outcomeIndex]) failureCount--;
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = success;
+        if (!success) failureCount++;
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+    }
+
+    private void resetWindow() {
+        outcomeCount = 0;
+        outcomeIndex = 0;
+        failureCount = 0;
+    }
+
+    private double failureRateLocked() {
+        return outcomeCount == 0 ? 0 : failureCount * 100.0 / outcomeCount;
+    }
+
+    private synchronized double failureRate() {
+        return failureRateLocked();
+    }
+
+    private synchronized State currentState() {
+        return state;
+    }
+
+    private LatencyWindow latencyWindow(ClientRequest request) {
+        String endpoint = request.attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE)
+                .map(String::valueOf)
+                .orElse(null);
+        if (endpoint == null) return null;
+        return latencyWindows.computeIfAbsent(endpoint, key -> {
+            LatencyWindow window = new LatencyWindow();
+            Gauge.builder("ai.circuit.timeout", window, w -> w.timeout.toMillis() / 1000.0)
+                    .description("Current adaptive response timeout in seconds")
+                    .tag("backend", tag())
+                    .tag("endpoint", key)
+                    .register(meterRegistry);
+            return window;
+        });
+    }
+
+    private Duration adaptiveTimeout(long[] samples) {
+        Arrays.sort(samples);
+        int index = (int) Math.ceil(settings.getTimeoutPercentile() * samples.length) - 1;
+        long percentile = samples[Math.max(0, Math.min(index, samples.length - 1))];
+        Duration derived = Duration.ofNanos((long) (percentile * settings.getTimeoutMultiplier()));
+
+        if (derived.compareTo(settings.getMinTimeout()) < 0) return settings.getMinTimeout();
+        if (derived.compareTo(settings.getResponseTimeout()) > 0) return settings.getResponseTimeout();
+        return derived;
+    }
+
+    private void publish(State from, State to, double rate) {
+        Counter.builder("ai.circuit.transitions")
+                .description("Circuit state changes")
+                .tag("backend", tag())
+                .tag("to", to.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+        AiCircuitStateChangedEvent event = new AiCircuitStateChangedEvent(backend, from, to, rate);
+        // listeners write audit records; keep that off the Netty event loop
+        Schedulers.boundedElastic().schedule(() -> eventPublisher.publishEvent(event));
+    }
+
+    private String tag() {
+        return backend.name().toLowerCase(Locale.ROOT);
+    }
+
+    private final class LatencyWindow {
+        private final long[] latencies = new long[settings.getLatencyWindowSize()];
+        private int count;
+        private int index;
+        private volatile Duration timeout = settings.getResponseTimeout();
+
+        void record(long latencyNanos) {
+            long[] snapshot = null;
+            synchronized (this) {
+                latencies[index] = latencyNanos;
+                index = (index + 1) % latencies.length;
+                count = Math.min(count + 1, latencies.length);
+                if (count >= MIN_LATENCY_SAMPLES && index % RECOMPUTE_EVERY == 0) {
+                    snapshot = Arrays.copyOf(latencies, count);
+                }
+            }
+            if (snapshot != null) {
+                timeout = adaptiveTimeout(snapshot);
+            }
+        }
+    }
+}
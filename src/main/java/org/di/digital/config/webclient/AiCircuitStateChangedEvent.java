@@ -0,0 +1,9 @@
+package org.di.digital.config.webclient;
+
+/**
+ * Published by {@link AiCircuitBreaker} whenever a backend circuit changes state.
+ */
+public record AiCircuitStateChangedEvent(AiBackend backend,
+                                         AiCircuitBreaker.State from,
+                                         AiCircuitBreaker.State to,
+                                         double failureRate) {}
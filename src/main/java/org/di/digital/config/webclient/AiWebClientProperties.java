@@ -0,0 +1,57 @@
+package org.di.digital.config.webclient;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import reactor.netty.http.HttpProtocol;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Connection pool, protocol, codec, bulkhead and circuit breaker settings per {@link AiBackend}, bound from
+ * {@code ai.webclient.backends.<backend>.*}. A backend without its own section uses
+ * the field defaults below.
+ */
+@Getter
+@Setter
+@ConfigurationProperties("ai.webclient")
+public class AiWebClientProperties {
+
+    private Map<AiBackend, Backend> backends = new EnumMap<>(AiBackend.class);
+
+    public Backend forBackend(AiBackend backend) {
+        return backends.getOrDefault(backend, new Backend());
+    }
+
+    @Getter
+    @Setter
+    public static class Backend {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(45);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(10);
+        private Duration evictInterval = Duration.ofSeconds(30);
+        private Duration connectTimeout = Duration.ofSeconds(10);
+        private Duration responseTimeout = Duration.ofHours(1);
+        private DataSize maxInMemorySize = DataSize.ofMegabytes(50);
+        private List<HttpProtocol> protocols = List.of(HttpProtocol.HTTP11);
+        private int maxConcurrentCalls = 32;
+        private int maxBatchConcurrentCalls = 8;
+        private int maxQueuedCalls = 100;
+        private Duration maxWait = Duration.ofSeconds(30);
+        private int circuitWindowSize = 20;
+        private int circuitMinimumCalls = 10;
+        private double circuitFailureRateThreshold = 50.0;
+        private Duration circuitOpenDuration = Duration.ofSeconds(30);
+        private int circuitHalfOpenProbes = 3;
+        private int latencyWindowSize = 200;
+        private double timeoutPercentile = 0.99;
+        private double timeoutMultiplier = 3.0;
+        private Duration minTimeout = Duration.ofSeconds(10);
+    }
+}
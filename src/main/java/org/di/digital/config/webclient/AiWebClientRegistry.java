@@ -0,0 +1,91 @@
+package org.di.digital.config.webclient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Long-lived {@link WebClient}s, one per {@link AiBackend}. Every client owns a named
+ * Reactor Netty connection pool ({@code ai-<backend>}) so a slow backend cannot starve
+ * the others, and connections are reused across requests instead of being set up per
+ * call. Pool gauges are published to Micrometer under {@code reactor.netty.connection.provider.*}.
+ * Every client also passes through an {@link AiBulkhead} limiting concurrent calls and,
+ * inside it, an {@link AiCircuitBreaker} failing fast while the backend is down; the
+ * innermost {@link AiCallMetrics} records latency and throughput of the call itself.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AiWebClientProperties.class)
+public class AiWebClientRegistry {
+
+    private final Map<AiBackend, WebClient> clients = new EnumMap<>(AiBackend.class);
+    private final Map<AiBackend, ConnectionProvider> providers = new EnumMap<>(AiBackend.class);
+
+    public AiWebClientRegistry(AiWebClientProperties properties, MeterRegistry meterRegistry,
+                               ApplicationEventPublisher eventPublisher) {
+        for (AiBackend backend : AiBackend.values()) {
+            AiWebClientProperties.Backend settings = properties.forBackend(backend);
+            ConnectionProvider provider = connectionProvider(backend, settings);
+            providers.put(backend, provider);
+            AiBulkhead bulkhead = new AiBulkhead(backend, settings, meterRegistry);
+            AiCircuitBreaker circuitBreaker = new AiCircuitBreaker(backend, settings, meterRegistry, eventPublisher);
+            AiCallMetrics metrics = new AiCallMetrics(backend, meterRegistry);
+            clients.put(backend, webClient(provider, List.of(bulkhead, circuitBreaker, metrics), settings));
+            log.info("WebClient for {}: maxConnections={}, maxConcurrentCalls={}, protocols={}, responseTimeout={}",
+                    backend, settings.getMaxConnections(), settings.getMaxConcurrentCalls(),
+                    settings.getProtocols(), settings.getResponseTimeout());
+        }
+    }
+
+    public WebClient get(AiBackend backend) {
+        return clients.get(backend);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private ConnectionProvider connectionProvider(AiBackend backend, AiWebClientProperties.Backend settings) {
+        return ConnectionProvider.builder("ai-" + backend.name().toLowerCase(Locale.ROOT))
+                .maxConnections(settings.getMaxConnections())
+                .pendingAcquireMaxCount(settings.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(settings.getPendingAcquireTimeout())
+                .maxIdleTime(settings.getMaxIdleTime())
+                .maxLifeTime(settings.getMaxLifeTime())
+                .evictInBackground(settings.getEvictInterval())
+                .metrics(true)
+                .build();
+    }
+
+    private WebClient webClient(ConnectionProvider provider, List<ExchangeFilterFunction> filters,
+                                AiWebClientProperties.Backend settings) {
+        HttpClient httpClient = HttpClient.create(provider)
+                .protocol(settings.getProtocols().toArray(HttpProtocol[]::new))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) settings.getConnectTimeout().toMillis())
+                .responseTimeout(settings.getResponseTimeout());
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filters(existing -> existing.addAll(filters))
+                .codecs(configurer -> configurer
+                        .defaultCodecs()
+                        .maxInMemorySize((int) settings.getMaxInMemorySize().toBytes()))
+                .build();
+    }
+}
@@ -0,0 +1,118 @@
+package org.di.digital.config.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.di.digital.service.impl.core.notification.CaseAudienceCache;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Guards the per-case topics {@code /topic/case/{caseNumber}/...}. Notifications are
+ * broadcast there once per event, so access is checked per subscriber instead of per send:
+ * <ul>
+ *   <li>inbound (this interceptor), a SUBSCRIBE is rejected unless the user has access
+ *       to the case, and clients may never SEND to a case topic;</li>
+ *   <li>outbound ({@link #outbound()}), every message on a case topic is re-checked
+ *       against the cached case members, so a user removed from a case stops receiving
+ *       its events without resubscribing.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseTopicInterceptor implements ChannelInterceptor {
+
+    public static final String CASE_TOPIC_PREFIX = "/topic/case/";
+
+    private static final Pattern CASE_TOPIC = Pattern.compile("^/topic/case/([^/]+)/.+");
+
+    private final CaseAudienceCache caseAudienceCache;
+
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+
+    public static String caseTopic(String caseNumber, String suffix) {
+        return CASE_TOPIC_PREFIX + caseNumber + "/" + suffix;
+    }
+
+    /**
+     * Interceptor for the client outbound channel; drops case messages addressed to
+     * sessions whose user no longer has access to the case.
+     */
+    public ChannelInterceptor outbound() {
+        return new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+                if (accessor.getMessageType() != SimpMessageType.MESSAGE) return message;
+
+                String caseNumber = caseNumber(accessor.getDestination());
+                if (caseNumber == null) return message;
+
+                String sessionId = accessor.getSessionId();
+                String email = sessionId != null ? sessionUsers.get(sessionId) : null;
+                if (email == null || !caseAudienceCache.members(caseNumber).contains(email)) {
+                    log.debug("Dropped case {} message for session {} without access", caseNumber, sessionId);
+                    return null;
+                }
+                return message;
+            }
+        };
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SimpMessageType type = accessor.getMessageType();
+        if (type == null) return message;
+
+        String sessionId = accessor.getSessionId();
+        Principal user = accessor.getUser();
+        switch (type) {
+            case CONNECT -> {
+                if (sessionId != null && user != null) sessionUsers.put(sessionId, user.getName());
+            }
+            case DISCONNECT -> {
+                if (sessionId != null) sessionUsers.remove(sessionId);
+            }
+            case SUBSCRIBE -> authorizeSubscription(message, accessor, sessionId, user);
+            case MESSAGE -> {
+                if (caseNumber(accessor.getDestination()) != null) {
+                    throw new MessageDeliveryException(message, "Публикация в топик дела запрещена");
+                }
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    private void authorizeSubscription(Message<?> message, SimpMessageHeaderAccessor accessor,
+                                       String sessionId, Principal user) {
+        String caseNumber = caseNumber(accessor.getDestination());
+        if (caseNumber == null) return;
+
+        if (user == null || !caseAudienceCache.members(caseNumber).contains(user.getName())) {
+            log.warn("WS subscription to {} denied for {}", accessor.getDestination(),
+                    user != null ? user.getName() : "anonymous");
+            throw new MessageDeliveryException(message, "Нет доступа к делу: " + caseNumber);
+        }
+        if (sessionId != null) sessionUsers.putIfAbsent(sessionId, user.getName());
+    }
+
+    private static String caseNumber(String destination) {
+        if (destination == null || !destination.startsWith(CASE_TOPIC_PREFIX)) return null;
+        Matcher matcher = CASE_TOPIC.matcher(destination);
+        return matcher.matches() ? matcher.group(1) : null;
+    }
+}
@@ -0,0 +1,109 @@
+package org.di.digital.config.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Cross-node fan-out for the {@code redis} broker type. Every node keeps its in-memory
+ * broker; messages the application publishes to {@code /topic/**} or {@code /user/**} are
+ * additionally sent to a Redis channel, and every other node injects them into its own
+ * broker channel. User destinations are forwarded unresolved, so each node delivers to
+ * the sessions of that user it holds itself. Native headers (e.g. notification sequence
+ * numbers) travel with the payload.
+ * <p>
+ * Session-resolved {@code /queue/**} messages and messages that already came over the
+ * bridge are never forwarded.
+ */
+@Slf4j
+public class RedisBrokerBridge implements ChannelInterceptor, MessageListener {
+
+    static final String ORIGIN_HEADER = "wsBridgeOrigin";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MessageChannel brokerChannel;
+    private final String channel;
+
+    RedisBrokerBridge(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                      MessageChannel brokerChannel, WebSocketBrokerProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.brokerChannel = brokerChannel;
+        this.channel = properties.getRedisChannel();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * Broker channel interceptor: mirrors locally published messages to the other nodes.
+     */
+    @Override
+    public org.springframework.messaging.Message<?> preSend(org.springframework.messaging.Message<?> message,
+                                                             MessageChannel ignored) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getHeader(ORIGIN_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !(destination.startsWith("/topic/") || destination.startsWith("/user/"))) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = accessor.getContentType();
+            Envelope envelope = new Envelope(nodeId, destination,
+                    contentType != null ? contentType.toString() : null, accessor.toNativeHeaderMap(), payload);
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            log.error("Failed to mirror WS message for {} to other nodes: {}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    /**
+     * Redis listener: delivers messages published by other nodes to local subscribers.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+            if (nodeId.equals(envelope.origin())) return;
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(envelope.destination());
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            if (envelope.nativeHeaders() != null) {
+                envelope.nativeHeaders().forEach((name, values) -> values.forEach(value -> accessor.addNativeHeader(name, value)));
+            }
+            accessor.setHeader(ORIGIN_HEADER, envelope.origin());
+            MessageHeaders headers = accessor.getMessageHeaders();
+            brokerChannel.send(MessageBuilder.createMessage(envelope.payload(), headers));
+        } catch (Exception e) {
+            log.error("Failed to deliver WS message from another node: {}", e.getMessage());
+        }
+    }
+
+    record Envelope(String origin, String destination, String contentType,
+                    Map<String, List<String>> nativeHeaders, byte[] payload) {}
+}
@@ -0,0 +1,34 @@
+package org.di.digital.config.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+
+@Configuration
+@ConditionalOnProperty(name = "websocket.broker.type", havingValue = "redis")
+public class RedisBrokerBridgeConfig {
+
+    @Bean
+    public RedisBrokerBridge redisBrokerBridge(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                               @Lazy @Qualifier("brokerChannel") MessageChannel brokerChannel,
+                                               WebSocketBrokerProperties properties) {
+        return new RedisBrokerBridge(redisTemplate, objectMapper, brokerChannel, properties);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer wsBrokerBridgeListenerContainer(RedisConnectionFactory cf,
+                                                                         RedisBrokerBridge bridge) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(cf);
+        container.addMessageListener(bridge, new ChannelTopic(bridge.getChannel()));
+        return container;
+    }
+}
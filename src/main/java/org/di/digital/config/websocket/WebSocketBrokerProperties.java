@@ -0,0 +1,39 @@
+package org.di.digital.config.websocket;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Message broker behind the STOMP endpoint, bound from {@code websocket.broker.*}.
+ * <ul>
+ *   <li>{@code simple} – in-memory broker, a single node only (default);</li>
+ *   <li>{@code stomp-relay} – relay to an external STOMP broker, e.g. the RabbitMQ STOMP
+ *       plugin, settings under {@code websocket.broker.relay.*};</li>
+ *   <li>{@code redis} – in-memory broker on every node, with messages published by the
+ *       application mirrored to the other nodes over Redis pub/sub.</li>
+ * </ul>
+ */
+@Getter
+@Setter
+@ConfigurationProperties("websocket.broker")
+public class WebSocketBrokerProperties {
+
+    public enum Type { SIMPLE, STOMP_RELAY, REDIS }
+
+    private Type type = Type.SIMPLE;
+    private Relay relay = new Relay();
+    private String redisChannel = "ws-broker-bridge";
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private String host = "localhost";
+        private int port = 61613;
+        private String virtualHost = "/";
+        private String login = "guest";
+        private String passcode = "guest";
+        private long heartbeatSendMs = 10_000;
+        private long heartbeatReceiveMs = 10_000;
+    }
+}
@@ -3,7 +3,10 @@ package org.di.digital.config.websocket;
 import lombok.RequiredArgsConstructor;
 import org.di.digital.config.websocket.UserPrincipalHandler;
 import org.di.digital.config.websocket.WebSocketAuthInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -11,19 +14,54 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties(WebSocketBrokerProperties.class)
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketAuthInterceptor authInterceptor;
     private final UserPrincipalHandler principalHandler;
+    private final CaseTopicInterceptor caseTopicInterceptor;
+    private final WebSocketBrokerProperties brokerProperties;
+    private final ObjectProvider<RedisBrokerBridge> redisBrokerBridge;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue");
+        switch (brokerProperties.getType()) {
+            case SIMPLE -> config.enableSimpleBroker("/topic", "/queue");
+            case STOMP_RELAY -> {
+                WebSocketBrokerProperties.Relay relay = brokerProperties.getRelay();
+                config.enableStompBrokerRelay("/topic", "/queue")
+                        .setRelayHost(relay.getHost())
+                        .setRelayPort(relay.getPort())
+                        .setVirtualHost(relay.getVirtualHost())
+                        .setClientLogin(relay.getLogin())
+                        .setClientPasscode(relay.getPasscode())
+                        .setSystemLogin(relay.getLogin())
+                        .setSystemPasscode(relay.getPasscode())
+                        .setSystemHeartbeatSendInterval(relay.getHeartbeatSendMs())
+                        .setSystemHeartbeatReceiveInterval(relay.getHeartbeatReceiveMs())
+                        // user destinations of sessions connected to other nodes
+                        .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                        .setUserRegistryBroadcast("/topic/simp-user-registry");
+            }
+            case REDIS -> {
+                config.enableSimpleBroker("/topic", "/queue");
+                config.configureBrokerChannel().interceptors(redisBrokerBridge.getObject());
+            }
+        }
         config.setUserDestinationPrefix("/user");
         config.setApplicationDestinationPrefixes("/app");
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(caseTopicInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(caseTopicInterceptor.outbound());
+    }
 
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
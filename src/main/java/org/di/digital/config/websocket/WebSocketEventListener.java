@@ -1,25 +1,36 @@
 package org.di.digital.config.websocket;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.service.impl.core.presence.PresenceRegistry;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class WebSocketEventListener {
 
+    private final PresenceRegistry presenceRegistry;
+
     @EventListener
     public void handleSessionConnect(SessionConnectEvent event) {
         String user = event.getUser() != null ? event.getUser().getName() : "anonymous";
-        log.info("WS session connected: user={}, sessionId={}", user, event.getMessage().getHeaders().get("simpSessionId"));
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        log.info("WS session connected: user={}, sessionId={}", user, sessionId);
+        if (event.getUser() != null) {
+            presenceRegistry.sessionConnected(sessionId, user);
+        }
     }
 
     @EventListener
     public void handleSessionDisconnect(SessionDisconnectEvent event) {
         String user = event.getUser() != null ? event.getUser().getName() : "anonymous";
         log.info("WS session disconnected: user={}, sessionId={}", user, event.getSessionId());
+        presenceRegistry.sessionDisconnected(event.getSessionId());
     }
 }
 
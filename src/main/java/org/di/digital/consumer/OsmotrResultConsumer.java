@@ -2,6 +2,8 @@ package org.di.digital.consumer;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.executor.WorkloadExecutors;
+import org.di.digital.config.executor.WorkloadExecutors.Workload;
 import org.di.digital.dto.message.OsmotrResultMessage;
 import org.di.digital.dto.response.osmotr.OsmotrDataItemDto;
 import org.di.digital.dto.response.osmotr.OsmotrReportResponse;
@@ -16,7 +18,14 @@ import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 import static java.util.Base64.getDecoder;
 
@@ -28,6 +37,10 @@ public class OsmotrResultConsumer {
     private final OsmotrResultRepository osmotrResultRepository;
     private final MinioService minioService;
     private final PdfSplitter pdfSplitter;
+    private final WorkloadExecutors workloadExecutors;
+
+    private static final int SEGMENT_UPLOAD_CONCURRENCY = 8;
+    private final Semaphore segmentUploadPermits = new Semaphore(SEGMENT_UPLOAD_CONCURRENCY);
 
     @RabbitListener(queues = "${spring.rabbitmq.osmotr.result.queue}")
     public void consume(OsmotrResultMessage message) {
@@ -77,6 +90,8 @@ public class OsmotrResultConsumer {
                 String reportUrl = minioService.uploadOsmotrGeneratedFile(
                         reportBytes, result.getCaseNumber(), "report.docx", "report");
                 result.setReportFile(reportUrl);
+                result.setReportFileSize((long) reportBytes.length);
+                result.setReportFileChecksum(sha256Hex(reportBytes));
                 log.info("Report docx cached in MinIO: {}", reportUrl);
             } catch (Exception e) {
                 log.error("Failed to store report docx for result {}: {}", message.getFileId(), e.getMessage(), e);
@@ -88,11 +103,33 @@ public class OsmotrResultConsumer {
                 byte[] originalBytes = minioService.downloadFile(result.getOriginalFileUrl()).readAllBytes();
                 result.getSegments().clear();
 
+                List<OsmotrDataItemDto> items = new ArrayList<>(report.getData().size());
                 for (OsmotrDataItemDto item : report.getData()) {
+                    if (item.getStartPage() == null || item.getEndPage() == null) {
+                        log.error("Failed to create segment for docId={}: page bounds missing", item.getDocId());
+                        continue;
+                    }
+                    items.add(item);
+                }
+                List<int[]> ranges = items.stream()
+                        .map(item -> new int[]{item.getStartPage(), item.getEndPage()})
+                        .toList();
+                List<byte[]> segmentBytes = pdfSplitter.extractPageRanges(originalBytes, ranges);
+
+                List<CompletableFuture<String>> uploads = new ArrayList<>(items.size());
+                for (int i = 0; i < items.size(); i++) {
+                    OsmotrDataItemDto item = items.get(i);
+                    byte[] bytes = segmentBytes.get(i);
+                    String segmentFileName = UUID.randomUUID() + "_" + sanitize(item.getDocId()) + ".pdf";
+                    uploads.add(CompletableFuture.supplyAsync(
+                            () -> uploadSegment(bytes, result.getCaseNumber(), segmentFileName),
+                            workloadExecutors.executor(Workload.UPLOAD)));
+                }
+
+                for (int i = 0; i < items.size(); i++) {
+                    OsmotrDataItemDto item = items.get(i);
                     try {
-                        byte[] segmentBytes = pdfSplitter.extractPages(originalBytes, item.getStartPage(), item.getEndPage());
-                        String segmentFileName = UUID.randomUUID() + "_" + sanitize(item.getDocId()) + ".pdf";
-                        String segmentUrl = minioService.uploadOsmotrFile(segmentBytes, result.getCaseNumber(), segmentFileName, "segments");
+                        String segmentUrl = uploads.get(i).join();
 
                         result.addSegment(OsmotrResultSegment.builder()
                                 .title(item.getDocId())
@@ -120,6 +157,19 @@ public class OsmotrResultConsumer {
         log.info("OsmotrResult {} saved with {} segments", message.getFileId(), result.getSegments().size());
     }
 
+    private String uploadSegment(byte[] bytes, String caseNumber, String segmentFileName) {
+        segmentUploadPermits.acquireUninterruptibly();
+        try {
+            return minioService.uploadOsmotrFile(bytes, caseNumber, segmentFileName, "segments");
+        } finally {
+            segmentUploadPermits.release();
+        }
+    }
+
+    private String sha256Hex(byte[] bytes) throws NoSuchAlgorithmException {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
     private String sanitize(String name) {
         if (name == null) return "segment";
         return name.replaceAll("[^a-zA-Zа-яА-Я0-9._-]", "_").toLowerCase();
@@ -2,11 +2,12 @@ package org.di.digital.consumer.figurant;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.response.interrogation.FigurantApiResponse;
 import org.di.digital.repository.cases.CaseRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import static org.di.digital.util.requests.RequestUrlBuilder.figurantUrl;
@@ -16,7 +17,7 @@ import static org.di.digital.util.requests.RequestUrlBuilder.figurantUrl;
 @RequiredArgsConstructor
 public class FigurantSyncService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final FigurantPersistenceService persistenceService;
 
     @Value("${model.host}")
@@ -28,7 +29,7 @@ public class FigurantSyncService {
     public void sync(String caseNumber) {
         FigurantApiResponse response;
         try {
-            response = webClientBuilder.build()
+            response = webClients.get(AiBackend.FIGURANT)
                     .get()
                     .uri(figurantUrl(pythonHost, figurantPort, caseNumber))
                     .retrieve()
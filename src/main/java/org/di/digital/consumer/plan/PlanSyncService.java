@@ -1,5 +1,8 @@
 package org.di.digital.consumer.plan;
 
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiBulkhead;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,7 +11,6 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.util.Map;
 
@@ -20,7 +22,7 @@ import static org.di.digital.util.requests.RequestBodyBuilder.planBody;
 @RequiredArgsConstructor
 public class PlanSyncService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final PlanPersistenceService persistenceService;
 
     @Value("${model.host}")
@@ -46,9 +48,10 @@ public class PlanSyncService {
         Map<String, Object> response;
         try {
             MultiValueMap<String, Object> body = planBody(caseNumber, "append");
-            response = webClientBuilder.build()
+            response = webClients.get(AiBackend.PLAN)
                     .post()
                     .uri(planGeneratorUrl(planHost, planPort))
+                    .attribute(AiBulkhead.PRIORITY_ATTRIBUTE, AiBulkhead.Priority.BATCH)
                     .contentType(MediaType.MULTIPART_FORM_DATA)
                     .body(BodyInserters.fromMultipartData(body))
                     .retrieve()
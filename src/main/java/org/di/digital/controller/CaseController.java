@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.di.digital.consumer.figurant.FigurantSyncService;
+import org.di.digital.dto.notification.CaseProcessingNotification;
 import org.di.digital.dto.request.cases.*;
 import org.di.digital.dto.request.interrogation.AddFigurantToCaseRequest;
 import org.di.digital.dto.response.cases.*;
@@ -15,6 +16,8 @@ import org.di.digital.model.enums.cases.CaseRejectionReason;
 import org.di.digital.model.enums.file.FileType;
 import org.di.digital.service.cases.CaseFileService;
 import org.di.digital.service.cases.CaseService;
+import org.di.digital.service.impl.core.NotificationService;
+import org.di.digital.service.impl.core.presence.PresenceRegistry;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.domain.Page;
 import org.springframework.http.*;
@@ -25,6 +28,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Validated
@@ -35,6 +39,8 @@ public class CaseController {
     private final CaseService caseService;
     private final CaseFileService caseFileService;
     private final FigurantSyncService figurantSyncService;
+    private final NotificationService notificationService;
+    private final PresenceRegistry presenceRegistry;
     
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
@@ -102,6 +108,26 @@ public class CaseController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{caseId}/files/status")
+    public ResponseEntity<CaseProcessingNotification> getCaseFilesStatus(
+            @PathVariable Long caseId,
+            Authentication authentication
+    ) {
+        log.info("Getting files status snapshot for case: {} by user: {}", caseId, authentication.getName());
+        Case caseEntity = caseService.getCaseEntityById(caseId, authentication.getName());
+        return ResponseEntity.ok(notificationService.getCaseStatusSnapshot(caseEntity.getNumber()));
+    }
+
+    @GetMapping("/{caseId}/users/online")
+    public ResponseEntity<Set<String>> getOnlineCaseUsers(
+            @PathVariable Long caseId,
+            Authentication authentication
+    ) {
+        log.info("Getting online users for case: {} by user: {}", caseId, authentication.getName());
+        Case caseEntity = caseService.getCaseEntityById(caseId, authentication.getName());
+        return ResponseEntity.ok(presenceRegistry.onlineMembers(caseEntity.getNumber()));
+    }
+
     @PatchMapping("/{caseId}/files/{fileId}/qualification")
     public ResponseEntity<Void> toggleQualification(
             @PathVariable Long caseId,
@@ -30,6 +30,7 @@ public class CaseIndictmentController {
 
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamIndictment(@RequestParam String caseNumber,
+                                       @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
                                        Authentication authentication) {
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -41,12 +42,13 @@ public class CaseIndictmentController {
 
         log.info("Generating indictment for case: {} by user: {}",
                 caseNumber, authentication.getName());
-        return indictmentService.generateIndictment(caseNumber, authentication.getName());
+        return indictmentService.generateIndictment(caseNumber, authentication.getName(), lastEventId);
     }
 
     @GetMapping(value = "/stream/complete", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter complete(
             @RequestParam String caseNumber,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
             Authentication authentication) {
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -58,12 +60,13 @@ public class CaseIndictmentController {
 
         log.info("Completing indictment for case: {} by user: {}",
                 caseNumber, authentication.getName());
-        return indictmentService.completeIndictment(caseNumber, authentication.getName());
+        return indictmentService.completeIndictment(caseNumber, authentication.getName(), lastEventId);
     }
 
     @GetMapping(value = "/stream/section", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamSection(@RequestParam String caseNumber,
                                     @RequestParam int sectionId,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
                                     Authentication authentication) {
 
         if (authentication == null || !authentication.isAuthenticated()) {
@@ -76,12 +79,13 @@ public class CaseIndictmentController {
         log.info("Generating indictment section {} for case: {} by user: {}",
                 sectionId, caseNumber, authentication.getName());
         return indictmentService.generateIndictmentSection(
-                caseNumber, authentication.getName(), sectionId);
+                caseNumber, authentication.getName(), sectionId, lastEventId);
     }
 
     @PostMapping(value = "/stream/rephrase", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamRephrase(@RequestParam String caseNumber,
                                      @RequestBody IndictmentRephraseRequest request,
+                                     @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
                                      Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             SseEmitter emitter = new SseEmitter();
@@ -91,7 +95,7 @@ public class CaseIndictmentController {
         return indictmentService.generateIndictmentPrompt(
                 caseNumber, authentication.getName(),
                 request.getStartSectionId(), request.getStartOffset(),
-                request.getEndSectionId(), request.getEndOffset(), request.getPrompt());
+                request.getEndSectionId(), request.getEndOffset(), request.getPrompt(), lastEventId);
     }
 
     @PostMapping("/rephrase/apply")
@@ -30,6 +30,7 @@ public class CaseQualificationController {
 
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamQualification(@RequestParam String caseNumber,
+                                          @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
                                           Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             log.error("Unauthenticated access attempt to qualification stream");
@@ -39,7 +40,7 @@ public class CaseQualificationController {
         }
         log.info("Generating qualification for case: {} by user: {}",
                 caseNumber, authentication.getName());
-        return qualificationService.generateQualification(caseNumber, authentication.getName());
+        return qualificationService.generateQualification(caseNumber, authentication.getName(), lastEventId);
     }
 
     @GetMapping("/download")
@@ -70,6 +71,7 @@ public class CaseQualificationController {
     @GetMapping(value = "/stream/section", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamSection(@RequestParam String caseNumber,
                                     @RequestParam int sectionId,
+                                    @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
                                     Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             SseEmitter emitter = new SseEmitter();
@@ -77,12 +79,13 @@ public class CaseQualificationController {
             return emitter;
         }
         return qualificationService.generateQualificationSection(
-                caseNumber, authentication.getName(), sectionId);
+                caseNumber, authentication.getName(), sectionId, lastEventId);
     }
 
     @PostMapping(value = "/stream/rephrase", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter streamRephrase(@RequestParam String caseNumber,
                                      @RequestBody QualificationRephraseRequest request,
+                                     @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
                                      Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             SseEmitter emitter = new SseEmitter();
@@ -92,7 +95,7 @@ public class CaseQualificationController {
         return qualificationService.generateQualificationPrompt(
                 caseNumber, authentication.getName(),
                 request.getStartSectionId(), request.getStartOffset(),
-                request.getEndSectionId(), request.getEndOffset(), request.getPrompt());
+                request.getEndSectionId(), request.getEndOffset(), request.getPrompt(), lastEventId);
     }
 
     @PostMapping("/rephrase/apply")
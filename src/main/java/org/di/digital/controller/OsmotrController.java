@@ -4,8 +4,11 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.di.digital.dto.request.osmotr.DistributionRequest;
 import org.di.digital.dto.response.osmotr.OsmotrResultDto;
+import org.di.digital.dto.response.osmotr.OsmotrSegmentSearchHitDto;
 import org.di.digital.model.enums.osmotr.OsmotrFileType;
 import org.di.digital.service.osmotr.OsmotrService;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -78,12 +81,12 @@ public class OsmotrController {
     }
 
     @GetMapping("/{resultId}/merge")
-    public ResponseEntity<byte[]> mergeSegments(
+    public ResponseEntity<InputStreamResource> mergeSegments(
             @PathVariable String caseNumber,
             @PathVariable Long resultId,
             @RequestParam String type,
             Authentication authentication) throws Exception {
-        byte[] pdf = digitalOsmotrService.mergeSegments(caseNumber, resultId, type, authentication.getName());
+        InputStreamResource pdf = digitalOsmotrService.mergeSegments(caseNumber, resultId, type, authentication.getName());
         String fileName = "EVIDENCE".equals(type) ? "вещественные_документы.pdf" : "возврат.pdf";
         return ResponseEntity.ok()
                 .header(HttpHeaders.CONTENT_DISPOSITION,
@@ -114,11 +117,13 @@ public class OsmotrController {
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<OsmotrResultDto>> searchSegments(
+    public ResponseEntity<Page<OsmotrSegmentSearchHitDto>> searchSegments(
             @PathVariable String caseNumber,
             @RequestParam String query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
             Authentication authentication) {
         return ResponseEntity.ok(
-                digitalOsmotrService.searchSegments(caseNumber, query, authentication.getName()));
+                digitalOsmotrService.searchSegments(caseNumber, query, page, size, authentication.getName()));
     }
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package org.di.digital.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.dto.notification.NotificationReplay;
+import org.di.digital.dto.request.user.NotificationReplayRequest;
 import org.di.digital.dto.request.user.UpdateProfileRequest;
 import org.di.digital.dto.request.user.UserSettingsRequest;
 import org.di.digital.dto.response.user.UserProfile;
 import org.di.digital.service.UserService;
+import org.di.digital.service.impl.core.notification.NotificationReplayBuffer;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/users")
 public class UserController {
     private final UserService userService;
+    private final NotificationReplayBuffer notificationReplayBuffer;
 
     @GetMapping("/me")
     public ResponseEntity<UserProfile> getMyProfile(Authentication authentication) {
@@ -45,5 +49,14 @@ public class UserController {
         UserProfile updatedProfile = userService.updateUserProfile(email, settingsRequest);
         return ResponseEntity.ok(updatedProfile);
     }
-}
 
+    @PostMapping("/me/notifications/replay")
+    public ResponseEntity<NotificationReplay> replayNotifications(
+            Authentication authentication,
+            @RequestBody NotificationReplayRequest request
+    ) {
+        String email = authentication.getName();
+        log.info("Replaying missed notifications for {}", email);
+        return ResponseEntity.ok(notificationReplayBuffer.replay(email, request));
+    }
+}
@@ -16,6 +16,14 @@ public class CaseProcessingNotification {
     private String caseNumber;
     private String caseTitle;
 
+    /**
+     * Per-case sequence number. {@code files} of a delta holds only the files changed since
+     * the previous sequence; a client that sees a gap reloads the snapshot. {@code null}
+     * when no sequence could be assigned, in which case the notification is a snapshot.
+     */
+    private Long sequence;
+    private boolean snapshot;
+
     private Integer totalFiles;
     private Integer pendingFiles;
     private Integer processingFiles;
@@ -23,6 +31,7 @@ public class CaseProcessingNotification {
     private Integer failedFiles;
 
     private List<FileStatusInfo> files;
+    private List<Long> removedFileIds;
 
     private String latestActivity;
     private Long latestFileId;
@@ -0,0 +1,23 @@
+package org.di.digital.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Missed notifications in sequence order per stream. Streams whose buffer no longer
+ * covers the gap are listed instead and need a full reload: {@code userResync} for the
+ * personal stream, {@code resyncCases} for cases.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationReplay {
+    private List<ReplayedNotification> notifications;
+    private boolean userResync;
+    private List<String> resyncCases;
+}
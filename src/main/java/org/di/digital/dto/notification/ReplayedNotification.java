@@ -0,0 +1,21 @@
+package org.di.digital.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A missed notification exactly as it was sent: {@code payload} is the JSON body of the
+ * original STOMP frame, {@code destination} the one the client subscribed to.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReplayedNotification {
+    private String stream;
+    private Long sequence;
+    private String destination;
+    private String payload;
+}
@@ -0,0 +1,16 @@
+package org.di.digital.dto.request.user;
+
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * Last sequence numbers the client received before reconnecting: of its personal stream
+ * and of every case it follows, keyed by case number. {@code null} or missing means
+ * nothing was received yet.
+ */
+@Data
+public class NotificationReplayRequest {
+    private Long userSequence;
+    private Map<String, Long> caseSequences;
+}
@@ -0,0 +1,17 @@
+package org.di.digital.dto.response.osmotr;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OsmotrReportFileDto {
+    private String fileName;
+    private Long size;
+    private String checksum;
+    private String downloadUrl;
+}
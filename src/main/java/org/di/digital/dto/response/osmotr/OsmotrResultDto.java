@@ -19,7 +19,7 @@ public class OsmotrResultDto {
     private String userEmail;
     private OsmotrProcessingStatus status;
     private String reportTxt;
-    private String reportFileBase64;
+    private OsmotrReportFileDto reportFile;
     private String errorMessage;
     private Long processingDurationSeconds;
     private LocalDateTime createdAt;
@@ -0,0 +1,20 @@
+package org.di.digital.dto.response.osmotr;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OsmotrSegmentSearchHitDto {
+    private Long resultId;
+    private Long segmentId;
+    private String title;
+    private Integer startPage;
+    private Integer endPage;
+    private Double rank;
+    private String snippet;
+}
@@ -0,0 +1,15 @@
+package org.di.digital.exception;
+
+import lombok.Getter;
+import org.di.digital.config.webclient.AiBackend;
+
+@Getter
+public class AiBackendBusyException extends RuntimeException {
+
+    private final AiBackend backend;
+
+    public AiBackendBusyException(AiBackend backend) {
+        super("Сервис " + backend.name().toLowerCase() + " перегружен, повторите запрос позже");
+        this.backend = backend;
+    }
+}
@@ -0,0 +1,27 @@
+package org.di.digital.exception;
+
+import lombok.Getter;
+import org.di.digital.config.webclient.AiBackend;
+
+import java.time.Duration;
+
+@Getter
+public class AiBackendUnavailableException extends RuntimeException {
+
+    private final AiBackend backend;
+
+    private AiBackendUnavailableException(AiBackend backend, String message, Throwable cause) {
+        super(message, cause);
+        this.backend = backend;
+    }
+
+    public static AiBackendUnavailableException circuitOpen(AiBackend backend) {
+        return new AiBackendUnavailableException(backend,
+                "Сервис " + backend.name().toLowerCase() + " временно недоступен, повторите запрос позже", null);
+    }
+
+    public static AiBackendUnavailableException timedOut(AiBackend backend, Duration timeout, Throwable cause) {
+        return new AiBackendUnavailableException(backend,
+                "Сервис " + backend.name().toLowerCase() + " не ответил за " + timeout.toSeconds() + " с", cause);
+    }
+}
@@ -2,8 +2,10 @@ package org.di.digital.exception;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -42,6 +44,32 @@ public class GlobalExceptionHandler {
         return problem;
     }
 
+    @ExceptionHandler(AiBackendBusyException.class)
+    public ResponseEntity<ProblemDetail> handleAiBackendBusy(AiBackendBusyException ex) {
+        log.warn("AI backend {} is saturated, rejecting request", ex.getBackend());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()
+        );
+        problem.setTitle("Service Busy");
+        problem.setProperty("backend", ex.getBackend());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(problem);
+    }
+
+    @ExceptionHandler(AiBackendUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleAiBackendUnavailable(AiBackendUnavailableException ex) {
+        log.warn("AI backend {} unavailable: {}", ex.getBackend(), ex.getMessage());
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+                HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()
+        );
+        problem.setTitle("Service Unavailable");
+        problem.setProperty("backend", ex.getBackend());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(problem);
+    }
+
     @ExceptionHandler(FaceAuthUnavailableException.class)
     public ProblemDetail handleFaceAuthUnavailable(FaceAuthUnavailableException ex) {
         log.error("FaceAuth unavailable: {}, detail={}", ex.getMessage(), ex.getDetail());
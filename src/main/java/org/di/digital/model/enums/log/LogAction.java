@@ -57,7 +57,10 @@ public enum LogAction {
     INTERROGATION_LIMIT_OVERRIDE("Превышение лимита проведения допроса"),
     REVIEW_CREATE("Создание рецензии"),
     SUPPORT_TICKET_CREATE("Создание обращения в поддержку"),
-    NO_ACCESS("Нет доступа");
+    NO_ACCESS("Нет доступа"),
+    AI_BACKEND_CIRCUIT_OPENED("Отключение недоступного AI-сервиса"),
+    AI_BACKEND_CIRCUIT_HALF_OPEN("Пробные запросы к AI-сервису"),
+    AI_BACKEND_CIRCUIT_CLOSED("Восстановление AI-сервиса");
 
     private final String description;
 
@@ -31,6 +31,8 @@ public class OsmotrResult {
     private OsmotrProcessingStatus status;
 
     private String reportFile;
+    private Long reportFileSize;
+    private String reportFileChecksum;
 
     @Column(columnDefinition = "TEXT")
     private String reportTxt;
@@ -16,6 +16,9 @@ public interface CaseFileRepository extends JpaRepository<CaseFile, Long> {
     @Query("SELECT cf FROM CaseFile cf WHERE cf.caseEntity.number = :caseNumber ORDER BY cf.uploadedAt DESC")
     List<CaseFile> findByCaseEntityNumber(@Param("caseNumber") String caseNumber);
 
+    @Query("SELECT cf.status, COUNT(cf) FROM CaseFile cf WHERE cf.caseEntity.number = :caseNumber GROUP BY cf.status")
+    List<Object[]> countByStatusForCase(@Param("caseNumber") String caseNumber);
+
     boolean existsByCaseEntityIdAndStatusNotIn(Long caseId, List<CaseFileStatusEnum> statuses);
 
     List<CaseFile> findByPagesIsNull();
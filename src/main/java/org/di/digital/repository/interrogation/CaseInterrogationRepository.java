@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -29,4 +30,9 @@ public interface CaseInterrogationRepository extends JpaRepository<CaseInterroga
     long countWithAudioBetween(@Param("start") LocalDate start, @Param("end") LocalDate end);
 
     @Query("SELECT i FROM CaseInterrogation i JOIN FETCH i.caseEntity WHERE i.status = :status")
-    List<CaseInterrogation> findActiveWithCase(@Param("status") CaseInterrogationStatusEnum status);}
+    List<CaseInterrogation> findActiveWithCase(@Param("status") CaseInterrogationStatusEnum status);
+
+    @Query("SELECT i FROM CaseInterrogation i JOIN FETCH i.caseEntity WHERE i.id IN :ids AND i.status = :status")
+    List<CaseInterrogation> findActiveWithCaseByIdIn(@Param("ids") Collection<Long> ids,
+                                                     @Param("status") CaseInterrogationStatusEnum status);
+}
@@ -1,9 +1,53 @@
 package org.di.digital.repository.osmotr;
 
 import org.di.digital.model.osmotr.OsmotrResultSegment;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OsmotrResultSegmentRepository extends JpaRepository<OsmotrResultSegment, Long> {
-}
\ No newline at end of file
+
+    @Query(value = """
+        SELECT s.id AS segmentId,
+               s.osmotr_result_id AS resultId,
+               s.title AS title,
+               s.start_page AS startPage,
+               s.end_page AS endPage,
+               ts_rank_cd(s.search_vector, q.query) AS rank,
+               ts_headline('russian', COALESCE(s.inspection_text, ''), q.query,
+                           'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS snippet
+        FROM osmotr_result_segments s
+        JOIN osmotr_results r ON r.id = s.osmotr_result_id
+        CROSS JOIN (SELECT websearch_to_tsquery('russian', :query)
+                           || websearch_to_tsquery('simple', :query) AS query) q
+        WHERE r.case_number = :caseNumber
+          AND s.search_vector @@ q.query
+        ORDER BY rank DESC, s.id
+        """,
+            countQuery = """
+        SELECT COUNT(*)
+        FROM osmotr_result_segments s
+        JOIN osmotr_results r ON r.id = s.osmotr_result_id
+        WHERE r.case_number = :caseNumber
+          AND s.search_vector @@ (websearch_to_tsquery('russian', :query)
+                                  || websearch_to_tsquery('simple', :query))
+        """,
+            nativeQuery = true)
+    Page<SegmentSearchHit> searchByText(@Param("caseNumber") String caseNumber,
+                                        @Param("query") String query,
+                                        Pageable pageable);
+
+    interface SegmentSearchHit {
+        Long getSegmentId();
+        Long getResultId();
+        String getTitle();
+        Integer getStartPage();
+        Integer getEndPage();
+        Double getRank();
+        String getSnippet();
+    }
+}
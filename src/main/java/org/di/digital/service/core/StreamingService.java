@@ -1,5 +1,6 @@
 package org.di.digital.service.core;
 
+import org.di.digital.config.webclient.AiBackend;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -10,6 +11,8 @@ import java.util.function.Function;
 public interface StreamingService {
 
     void stream(
+            AiBackend backend,
+            String endpoint,
             String url,
             Object body,
             SseEmitter emitter,
@@ -17,7 +20,25 @@ public interface StreamingService {
             Consumer<String> onComplete,
             Consumer<Throwable> onError
     );
+
+    /**
+     * Same as the plain {@code stream}, but {@code onCancel} receives the text streamed so
+     * far when the client disconnects and the model call is aborted.
+     */
+    void stream(
+            AiBackend backend,
+            String endpoint,
+            String url,
+            Object body,
+            SseEmitter emitter,
+            Function<String, String> chunkExtractor,
+            Consumer<String> onComplete,
+            Consumer<Throwable> onError,
+            Consumer<String> onCancel
+    );
     void stream(
+            AiBackend backend,
+            String endpoint,
             String url,
             Object body,
             SseEmitter emitter,
@@ -28,6 +49,8 @@ public interface StreamingService {
     );
 
     void streamRaw(
+            AiBackend backend,
+            String endpoint,
             String url,
             Object body,
             SseEmitter emitter,
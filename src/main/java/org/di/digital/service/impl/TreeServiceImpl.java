@@ -3,8 +3,12 @@ package org.di.digital.service.impl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.response.tree.TreeDataResponse;
 import org.di.digital.dto.response.tree.TreeModuleResponse;
+import org.di.digital.exception.AiBackendBusyException;
+import org.di.digital.exception.AiBackendUnavailableException;
 import org.di.digital.exception.NotFoundException;
 import org.di.digital.model.TreeData;
 import org.di.digital.model.cases.Case;
@@ -19,7 +23,6 @@ import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
@@ -38,7 +41,7 @@ public class TreeServiceImpl implements TreeService {
     private final TreeDataRepository treeDataRepository;
     private final CaseRepository caseRepository;
     private final UserRepository userRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final ObjectMapper objectMapper;
 
     @Value("${model.host}")
@@ -164,7 +167,7 @@ public class TreeServiceImpl implements TreeService {
         log.info("Fetching module: {} from URL: {}", moduleType, url);
 
         try {
-            String jsonResponse = webClientBuilder.build()
+            String jsonResponse = webClients.get(AiBackend.TREE)
                     .get()
                     .uri(url)
                     .accept(MediaType.APPLICATION_JSON)
@@ -191,6 +194,8 @@ public class TreeServiceImpl implements TreeService {
 
             return mapToModuleResponse(treeData);
 
+        } catch (AiBackendBusyException | AiBackendUnavailableException e) {
+            throw e; // 503 + Retry-After in GlobalExceptionHandler
         } catch (Exception e) {
             log.error("Error fetching module: {} from URL: {} - {}", moduleType, url, e.getMessage(), e);
             throw new RuntimeException("Failed to fetch module: " + moduleType, e);
@@ -53,6 +53,8 @@ import org.di.digital.util.mapper.CaseMapper;
 import org.di.digital.util.mapper.InterrogationMapper;
 import org.di.digital.util.mapper.SupportMapper;
 import org.di.digital.util.mapper.UserMapper;
+import org.di.digital.service.impl.core.notification.CaseAudienceChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -103,6 +105,7 @@ public class AdminServiceImpl implements AdminService {
     private final InterrogationExportService interrogationExportService;
     private final CaseService caseService;
     private final RejectionReasonStatusRepository rejectionReasonStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public PagedUserResponse getAllUsers(int page, int size, UserSearchRequest req) {
@@ -393,6 +396,7 @@ public class AdminServiceImpl implements AdminService {
         }
 
         caseRepository.removeUserFromAllCases(userId);
+        eventPublisher.publishEvent(CaseAudienceChangedEvent.allCases());
 
         user.setActive(false);
         user.setDeleted(true);
@@ -637,6 +641,7 @@ public class AdminServiceImpl implements AdminService {
         }
 
         caseRepository.save(caseEntity);
+        eventPublisher.publishEvent(new CaseAudienceChangedEvent(caseEntity.getNumber()));
 
         log.info("Case {} owner changed from {} to {} by admin",
                 caseId, oldOwner != null ? oldOwner.getEmail() : "null", newOwner.getEmail());
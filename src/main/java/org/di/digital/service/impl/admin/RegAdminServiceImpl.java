@@ -39,6 +39,8 @@ import org.di.digital.util.mapper.InterrogationMapper;
 import org.di.digital.util.mapper.SupportMapper;
 import org.di.digital.util.mapper.UserMapper;
 import org.di.digital.util.requests.UserUtil;
+import org.di.digital.service.impl.core.notification.CaseAudienceChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -69,6 +71,7 @@ public class RegAdminServiceImpl implements RegAdminService {
     private final InterrogationExportService interrogationExportService;
     private final UserUtil userUtil;
     private final RejectionReasonStatusRepository rejectionReasonStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public Page<AppealDto> getMyRegionAppeals(Long adminId, int page, int size, AppealSearchRequest req) {
@@ -304,6 +307,7 @@ public class RegAdminServiceImpl implements RegAdminService {
         }
 
         caseRepository.save(caseEntity);
+        eventPublisher.publishEvent(new CaseAudienceChangedEvent(caseEntity.getNumber()));
 
         log.info("Case {} owner changed from {} to {} by admin {}",
                 caseId, oldOwner != null ? oldOwner.getEmail() : "null", newOwner.getEmail(), adminId);
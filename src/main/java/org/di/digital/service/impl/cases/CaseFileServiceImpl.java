@@ -16,6 +16,7 @@ import org.di.digital.service.cases.CaseFileService;
 import org.di.digital.service.impl.core.NotificationService;
 import org.di.digital.service.impl.queue.TaskQueueService;
 import org.di.digital.util.requests.UserUtil;
+import org.di.digital.service.impl.core.cache.AiAnswerCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +32,7 @@ public class CaseFileServiceImpl implements CaseFileService {
     private final TaskQueueService taskQueueService;
     private final NotificationService notificationService;
     private final UserUtil userUtil;
+    private final AiAnswerCache answerCache;
 
     @Override
     @Transactional
@@ -56,6 +58,7 @@ public class CaseFileServiceImpl implements CaseFileService {
 
         caseFileRepository.save(caseFile);
         taskQueueService.completeTask(caseFileId, processingDurationSeconds);
+        answerCache.bumpCorpusVersion(caseFile.getCaseEntity().getNumber());
 
         log.info("File {} marked as COMPLETED", caseFileId);
         return caseFile;
@@ -119,6 +122,7 @@ public class CaseFileServiceImpl implements CaseFileService {
 
         file.setQualification(isQualification);
         caseFileRepository.save(file);
+        answerCache.bumpCorpusVersion(caseEntity.getNumber());
 
         log.info("File {} in case {} marked as qualification={}", fileId, caseId, isQualification);
     }
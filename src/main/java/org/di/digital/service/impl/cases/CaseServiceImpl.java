@@ -2,6 +2,8 @@ package org.di.digital.service.impl.cases;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.request.cases.ChangeCaseLanguageRequest;
 import org.di.digital.dto.request.cases.ReorderCaseFilesRequest;
 import org.di.digital.dto.response.cases.*;
@@ -37,6 +39,9 @@ import org.di.digital.util.PageCounter;
 import org.di.digital.util.mapper.CaseMapper;
 import org.di.digital.util.requests.RequestUrlBuilder;
 import org.di.digital.util.requests.UserUtil;
+import org.di.digital.service.impl.core.cache.AiAnswerCache;
+import org.di.digital.service.impl.core.notification.CaseAudienceChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.data.domain.Page;
@@ -46,7 +51,6 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 import java.io.InputStream;
@@ -62,7 +66,8 @@ import static org.di.digital.util.requests.RequestUrlBuilder.deleteDocumentUrl;
 @RequiredArgsConstructor
 public class CaseServiceImpl implements CaseService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
+    private final AiAnswerCache answerCache;
     private final CaseRepository caseRepository;
     private final UserRepository userRepository;
     private final MinioService minioService;
@@ -77,6 +82,7 @@ public class CaseServiceImpl implements CaseService {
     private final UserUtil userUtil;
     private final CaseMemberHistoryRepository caseMemberHistoryRepository;
     private final RejectionReasonStatusRepository rejectionReasonStatusRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${files.max-pages-per-file}")
     private int maxPagesPerFile;
@@ -201,7 +207,7 @@ public class CaseServiceImpl implements CaseService {
         log.info("Renaming workspace from {} to {}", oldNumber, newNumber);
 
         try {
-            webClientBuilder.build()
+            webClients.get(AiBackend.INDEX)
                     .patch()
                     .uri(url)
                     .contentType(org.springframework.http.MediaType.APPLICATION_JSON)
@@ -466,6 +472,7 @@ public class CaseServiceImpl implements CaseService {
             taskQueueService.deleteTask(f.id());
 
             caseWriter.removeFileRecord(caseId, f.id(), email);
+            answerCache.bumpCorpusVersion(f.caseNumber());
 
             logService.log(String.format("Deleted %s file from case %s", f.originalFileName(), f.caseNumber()),
                     LogLevel.INFO, LogAction.FILE_DELETE, f.caseNumber(), email);
@@ -483,7 +490,7 @@ public class CaseServiceImpl implements CaseService {
         log.info("🗑️ Deleting file from workspace: {}", url);
 
         try {
-            webClientBuilder.build()
+            webClients.get(AiBackend.INDEX)
                     .post()
                     .uri(url)
                     .retrieve()
@@ -503,7 +510,7 @@ public class CaseServiceImpl implements CaseService {
         log.info("🗑️ Deleting all files from workspace: {}", url);
 
         try {
-            webClientBuilder.build()
+            webClients.get(AiBackend.INDEX)
                     .delete()
                     .uri(url)
                     .retrieve()
@@ -572,6 +579,7 @@ public class CaseServiceImpl implements CaseService {
         String caseNumber = caseEntity.getNumber();
         caseEntity.addUser(userToAdd);
         Case savedCase = caseRepository.save(caseEntity);
+        eventPublisher.publishEvent(new CaseAudienceChangedEvent(caseNumber));
 
         recordMemberHistory(caseNumber, userToAdd, currentUser, CaseMemberAction.ADD);
 
@@ -727,6 +735,7 @@ public class CaseServiceImpl implements CaseService {
 
         caseEntity.removeUser(userToRemove);
         caseRepository.save(caseEntity);
+        eventPublisher.publishEvent(new CaseAudienceChangedEvent(caseNumber));
 
         recordMemberHistory(caseNumber, userToRemove, currentUser, CaseMemberAction.REMOVE);
 
@@ -850,6 +859,7 @@ public class CaseServiceImpl implements CaseService {
             taskQueueService.deleteTasksByCaseId(caseId);
 
             caseWriter.wipeAttachedFiles(caseId, currentUserEmail);
+            answerCache.bumpCorpusVersion(caseNumber);
             log.info("Deleted all files from case: {}", caseId);
 
         } catch (Exception e) {
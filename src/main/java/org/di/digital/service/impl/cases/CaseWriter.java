@@ -15,6 +15,8 @@ import org.di.digital.repository.user.UserRepository;
 import org.di.digital.service.LogService;
 import org.di.digital.util.mapper.CaseMapper;
 import org.di.digital.util.requests.UserUtil;
+import org.di.digital.service.impl.core.notification.CaseAudienceChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ public class CaseWriter {
     private final LogService logService;
     private final CaseMapper mapper;
     private final UserUtil userUtil;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public String authorizeForFileWipe(Long caseId, String email) {
@@ -93,9 +96,14 @@ public class CaseWriter {
                                   boolean numberChanges, String email) {
         Case caseEntity = caseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalStateException("Дело не найдено: " + caseId));
+        String oldNumber = caseEntity.getNumber();
         if (numberChanges) caseEntity.setNumber(newNumber);
         if (newTitle != null) caseEntity.setTitle(newTitle);
         Case saved = caseRepository.save(caseEntity);
+        eventPublisher.publishEvent(new CaseAudienceChangedEvent(oldNumber));
+        if (numberChanges) {
+            eventPublisher.publishEvent(new CaseAudienceChangedEvent(newNumber));
+        }
 
         logService.log(String.format("Case %s edited by user %s", saved.getNumber(), email),
                 LogLevel.INFO, LogAction.CASE_UPDATED, saved.getNumber(), email);
@@ -124,6 +132,7 @@ public class CaseWriter {
         String caseNumber = caseEntity.getNumber();
 
         caseRepository.delete(caseEntity);
+        eventPublisher.publishEvent(new CaseAudienceChangedEvent(caseNumber));
         logService.log(String.format("Case '%s' deleted by user %s", caseNumber, email),
                 LogLevel.INFO, LogAction.CASE_DELETED, caseNumber, email);
     }
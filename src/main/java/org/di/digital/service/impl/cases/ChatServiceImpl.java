@@ -1,9 +1,18 @@
 package org.di.digital.service.impl.cases;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.executor.WorkloadExecutors;
+import org.di.digital.config.executor.WorkloadExecutors.Workload;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiCallMetrics;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.request.cases.ChatRequest;
 import org.di.digital.dto.response.cases.QueryResponse;
+import org.di.digital.dto.response.cases.ReferenceDto;
 import org.di.digital.dto.response.chat.CaseChatHistoryResponse;
 import org.di.digital.dto.response.chat.CaseChatMessageDto;
 import org.di.digital.exception.NotFoundException;
@@ -22,8 +31,9 @@ import org.di.digital.repository.user.UserRepository;
 import org.di.digital.service.cases.CaseService;
 import org.di.digital.service.cases.ChatService;
 import org.di.digital.service.LogService;
-import org.di.digital.service.impl.core.sse.SseTypingEmitter;
+import org.di.digital.service.core.StreamingService;
 import org.di.digital.util.requests.UserUtil;
+import org.di.digital.service.impl.core.cache.AiAnswerCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
@@ -31,13 +41,13 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
+import static org.di.digital.util.requests.RequestBodyBuilder.caseChatStreamBody;
 import static org.di.digital.util.requests.RequestBodyBuilder.generalChatBody;
 import static org.di.digital.util.requests.RequestUrlBuilder.generalChatUrl;
 import static org.di.digital.util.requests.RequestUrlBuilder.qualificationChatUrl;
@@ -53,8 +63,11 @@ public class ChatServiceImpl implements ChatService {
     private final CaseService caseService;
     private final LogService logService;
     private final ChatMessageWriter chatMessageWriter;
-    private final WebClient.Builder webClientBuilder;
-    private final SseTypingEmitter sseTypingEmitter;
+    private final AiWebClientRegistry webClients;
+    private final WorkloadExecutors workloadExecutors;
+    private final AiAnswerCache answerCache;
+    private final StreamingService streamingService;
+    private final ObjectMapper objectMapper;
     private final UserUtil userUtil;
 
     @Value("${model.host}")
@@ -72,19 +85,19 @@ public class ChatServiceImpl implements ChatService {
         log.info("Starting general chat for question: {}",
                 question.substring(0, Math.min(50, question.length())));
 
-        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-
-        CompletableFuture.runAsync(() -> {
-            RequestContextHolder.setRequestAttributes(requestAttributes);
+        workloadExecutors.submit(Workload.CHAT, emitter, () -> {
             try {
-                QueryResponse response = webClientBuilder.build()
-                        .post()
-                        .uri(generalChatUrl(pythonHost, chatPort))
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(generalChatBody(question))
-                        .retrieve()
-                        .bodyToMono(QueryResponse.class)
-                        .block();
+                QueryResponse response = answerCache.getOrLoad("general-chat", null, QueryResponse.class,
+                        () -> webClients.get(AiBackend.CHAT)
+                                .post()
+                                .uri(generalChatUrl(pythonHost, chatPort))
+                                .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "general-chat")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(generalChatBody(question))
+                                .retrieve()
+                                .bodyToMono(QueryResponse.class)
+                                .block(),
+                        question);
 
                 if (response == null || response.getResponse() == null) {
                     throw new IllegalStateException("Пустой ответ от сервиса");
@@ -100,8 +113,6 @@ public class ChatServiceImpl implements ChatService {
             } catch (Exception e) {
                 log.error("General chat error: ", e);
                 emitter.completeWithError(e);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
             }
         });
     }
@@ -138,48 +149,93 @@ public class ChatServiceImpl implements ChatService {
         final Long messageId = chatMessageWriter.createMessages(
                 caseEntity.getId(), user.getId(), request.getQuestion());
 
-        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-
-        CompletableFuture.runAsync(() -> {
-            RequestContextHolder.setRequestAttributes(requestAttributes);
+        String question = request.getQuestion();
+        QueryResponse cached = answerCache.find("case-chat", caseNumber, QueryResponse.class, question);
+        if (cached != null) {
             try {
-                QueryResponse response = webClientBuilder.build()
-                        .post()
-                        .uri(qualificationChatUrl(pythonHost, qualificationPort, caseNumber))
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(generalChatBody(request.getQuestion()))
-                        .retrieve()
-                        .bodyToMono(QueryResponse.class)
-                        .block();
+                emitter.send(SseEmitter.event().name("message").data(cached.getResponse()));
+                emitter.complete();
+                completeCaseChat(caseNumber, userEmail, question, messageId, cached);
+            } catch (Exception e) {
+                failCaseChat(caseNumber, messageId, e);
+                emitter.completeWithError(e);
+            }
+            return;
+        }
 
-                if (response == null || response.getResponse() == null) {
-                    throw new IllegalStateException("Пустой ответ от сервиса");
-                }
+        // tokens go straight to the client; the message is persisted once the stream ends
+        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+        AtomicReference<List<ReferenceDto>> references = new AtomicReference<>();
+        streamingService.stream(
+                AiBackend.QUALIFICATION,
+                "case-chat",
+                qualificationChatUrl(pythonHost, qualificationPort, caseNumber),
+                caseChatStreamBody(question),
+                emitter,
+                chunk -> extractChatChunk(chunk, references),
+                fullText -> workloadExecutors.submit(Workload.CHAT, attrs, () -> {
+                    if (fullText.isBlank()) {
+                        failCaseChat(caseNumber, messageId, new IllegalStateException("Пустой ответ от сервиса"));
+                        return;
+                    }
+                    QueryResponse answer = new QueryResponse();
+                    answer.setResponse(fullText);
+                    answer.setReferences(references.get());
+                    answerCache.put("case-chat", caseNumber, answer, question);
+                    completeCaseChat(caseNumber, userEmail, question, messageId, answer);
+                }),
+                error -> workloadExecutors.submit(Workload.CHAT, attrs,
+                        () -> failCaseChat(caseNumber, messageId, error)),
+                // the client left mid-answer: keep what was shown, but do not cache it
+                partialText -> workloadExecutors.submit(Workload.CHAT, attrs, () -> {
+                    if (partialText.isBlank()) {
+                        failCaseChat(caseNumber, messageId, new IllegalStateException("Ответ прерван"));
+                        return;
+                    }
+                    chatMessageWriter.updateAssistantMessage(messageId, partialText, references.get());
+                    log.info("Case chat for case {} cancelled, kept {} characters", caseNumber, partialText.length());
+                })
+        );
+    }
 
-                emitter.send(SseEmitter.event().name("message").data(response.getResponse()));
-                emitter.complete();
+    private void completeCaseChat(String caseNumber, String userEmail, String question,
+                                  Long messageId, QueryResponse answer) {
+        chatMessageWriter.updateAssistantMessage(messageId, answer.getResponse(), answer.getReferences());
 
-                chatMessageWriter.updateAssistantMessage(
-                        messageId, response.getResponse(), response.getReferences());
+        caseService.updateCaseActivity(caseNumber, CaseActivityType.CHAT_MESSAGE.getDescription());
 
-                caseService.updateCaseActivity(caseNumber, CaseActivityType.CHAT_MESSAGE.getDescription());
+        logService.log(
+                String.format("New chat message %s by %s user to case %s",
+                        question, userEmail, caseNumber),
+                LogLevel.INFO, LogAction.CHAT_MESSAGE, caseNumber, userEmail);
 
-                logService.log(
-                        String.format("New chat message %s by %s user to case %s",
-                                request.getQuestion(), userEmail, caseNumber),
-                        LogLevel.INFO, LogAction.CHAT_MESSAGE, caseNumber, userEmail);
+        log.info("Case chat completed for case {} (user: {})", caseNumber, userEmail);
+    }
 
-                log.info("Case chat completed for case {} (user: {})", caseNumber, userEmail);
+    private void failCaseChat(String caseNumber, Long messageId, Throwable error) {
+        log.error("Case chat error for case {}: ", caseNumber, error);
+        chatMessageWriter.updateAssistantMessage(
+                messageId, "[Error: " + error.getMessage() + "]", null);
+    }
 
-            } catch (Exception e) {
-                log.error("Case chat error for case {}: ", caseNumber, e);
-                chatMessageWriter.updateAssistantMessage(
-                        messageId, "[Error: " + e.getMessage() + "]", null);
-                emitter.completeWithError(e);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
+    /**
+     * Stream events carry {@code {"delta": "..."}} increments and a final
+     * {@code {"references": [...]}}; a service without streaming support answers with one
+     * {@code {"response": ..., "references": ...}} object, which is passed through whole.
+     */
+    private String extractChatChunk(String chunk, AtomicReference<List<ReferenceDto>> references) {
+        try {
+            JsonNode node = objectMapper.readTree(chunk);
+            if (node.hasNonNull("references")) {
+                references.set(objectMapper.convertValue(node.get("references"),
+                        new TypeReference<List<ReferenceDto>>() {}));
             }
-        });
+            if (node.has("delta")) return node.get("delta").asText();
+            if (node.has("response")) return node.get("response").asText();
+            if (node.has("references")) return null;
+        } catch (Exception ignored) {
+        }
+        return chunk;
     }
 
     @Override
@@ -12,13 +12,12 @@ import org.di.digital.model.enums.interrogation.InterrogationTimeEvent;
 import org.di.digital.model.enums.plan.PlanNotificationType;
 import org.di.digital.model.enums.plan.PlanStatus;
 import org.di.digital.model.interrogation.CaseInterrogation;
-import org.di.digital.model.enums.file.CaseFileStatusEnum;
 import org.di.digital.model.plan.PlanNotification;
 import org.di.digital.model.user.User;
-import org.di.digital.repository.cases.CaseFileRepository;
-import org.di.digital.repository.cases.CaseRepository;
 import org.di.digital.repository.plan.PlanNotificationRepository;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.di.digital.service.impl.core.notification.CaseStatusNotifier;
+import org.di.digital.service.impl.core.notification.NotificationDispatcher;
+import org.di.digital.service.impl.core.notification.NotificationReplayBuffer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,95 +25,39 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+
+import static org.di.digital.config.websocket.CaseTopicInterceptor.caseTopic;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final CaseRepository caseRepository;
-    private final CaseFileRepository caseFileRepository;
+    private final NotificationReplayBuffer replayBuffer;
+    private final CaseStatusNotifier caseStatusNotifier;
+    private final NotificationDispatcher dispatcher;
     private final PlanNotificationRepository planNotificationRepository;
 
     public void sendNotificationToUser(String userEmail, String message) {
-        messagingTemplate.convertAndSendToUser(
+        replayBuffer.sendToUser(
                 userEmail,
                 buildAppealDestination(),
                 message
         );
         log.info("Appeal notification sent to user: {}", userEmail);
     }
-    @Transactional(readOnly = true)
+    /**
+     * Queues a status change of a case file; users receive it as part of a coalesced delta,
+     * see {@link CaseStatusNotifier}.
+     */
     public void sendCaseNotificationToAllUsers(String caseNumber, String activity, Long activityFileId, String activityFileName) {
-        Set<String> userEmails = caseRepository.findAllAccessibleUserEmailsByCaseNumber(caseNumber);
-
-        if (userEmails.isEmpty()) {
-            log.warn("No users found with access to case: {}", caseNumber);
-            return;
-        }
-
-        List<CaseFile> caseFiles = caseFileRepository.findByCaseEntityNumber(caseNumber);
-
-        List<FileStatusInfo> fileStatuses = caseFiles.stream()
-                .map(file -> FileStatusInfo.builder()
-                        .fileId(file.getId())
-                        .fileName(file.getOriginalFileName())
-                        .status(file.getStatus())
-                        .uploadedAt(file.getUploadedAt())
-                        .completedAt(file.getCompletedAt())
-                        .errorMessage(null)
-                        .build())
-                .collect(Collectors.toList());
-
-        long pending = caseFiles.stream()
-                .filter(f -> f.getStatus() == CaseFileStatusEnum.PENDING)
-                .count();
-
-        long processing = caseFiles.stream()
-                .filter(f -> f.getStatus() == CaseFileStatusEnum.PROCESSING)
-                .count();
-
-        long completed = caseFiles.stream()
-                .filter(f -> f.getStatus() == CaseFileStatusEnum.COMPLETED)
-                .count();
-
-        long failed = caseFiles.stream()
-                .filter(f -> f.getStatus() == CaseFileStatusEnum.FAILED)
-                .count();
-
-        CaseProcessingNotification notification = CaseProcessingNotification.builder()
-                .caseNumber(caseNumber)
-                .caseTitle(getCaseTitle(caseNumber))
-                .totalFiles(caseFiles.size())
-                .pendingFiles((int) pending)
-                .processingFiles((int) processing)
-                .completedFiles((int) completed)
-                .failedFiles((int) failed)
-                .files(fileStatuses)
-                .latestActivity(activity)
-                .latestFileId(activityFileId)
-                .latestFileName(activityFileName)
-                .timestamp(LocalDateTime.now())
-                .build();
-
-        String destination = buildCaseDestination(caseNumber);
-
-        log.info("Sending case notification to {} users for case {} (activity: {})",
-                userEmails.size(), caseNumber, activity);
-
-        for (String userEmail : userEmails) {
-            messagingTemplate.convertAndSendToUser(userEmail, destination, notification);
-            log.info("Case notification sent to user: {}", userEmail);
-        }
+        caseStatusNotifier.fileChanged(caseNumber, activityFileId, activity, activityFileName);
+    }
 
-        log.info("Case notification sent to all {} users for case {} - Files: {} total, {} processing, {} completed, {} failed",
-                userEmails.size(), caseNumber, caseFiles.size(), processing, completed, failed);
+    public CaseProcessingNotification getCaseStatusSnapshot(String caseNumber) {
+        return caseStatusNotifier.snapshot(caseNumber);
     }
 
     @Transactional(readOnly = true)
@@ -200,12 +143,6 @@ public class NotificationService {
                                                          InterrogationNotificationStatus status,
                                                          String transcribedText,
                                                          String errorMessage) {
-        Set<String> userEmails = caseRepository.findAllAccessibleUserEmailsByCaseNumber(caseNumber);
-        if (userEmails.isEmpty()) {
-            log.warn("No users found with access to case: {}", caseNumber);
-            return;
-        }
-
         InterrogationNotification notification = InterrogationNotification.builder()
                 .caseNumber(caseNumber)
                 .interrogationId(interrogation.getId())
@@ -221,13 +158,11 @@ public class NotificationService {
 
         String destination = buildInterrogationDestination(caseNumber, interrogation.getId());
 
-        for (String userEmail : userEmails) {
-            messagingTemplate.convertAndSendToUser(userEmail, destination, notification);
-            log.info("Interrogation notification sent to user: {}", userEmail);
-        }
+        dispatcher.submit(caseNumber, destination + "#" + qaId,
+                () -> replayBuffer.sendToCase(caseNumber, destination, notification));
 
-        log.info("Interrogation notification sent to {} users for interrogation: {} qa: {} ({})",
-                userEmails.size(), interrogation.getId(), qaId, status);
+        log.info("Interrogation notification queued for case {} for interrogation: {} qa: {} ({})",
+                caseNumber, interrogation.getId(), qaId, status);
     }
 
     @Transactional(readOnly = true)
@@ -267,12 +202,6 @@ public class NotificationService {
                                                          InterrogationNotificationStatus status,
                                                          String transcribedText,
                                                          String errorMessage, String fieldName) {
-        Set<String> userEmails = caseRepository.findAllAccessibleUserEmailsByCaseNumber(caseNumber);
-        if (userEmails.isEmpty()) {
-            log.warn("No users found with access to case: {}", caseNumber);
-            return;
-        }
-
         InterrogationNotification notification = InterrogationNotification.builder()
                 .caseNumber(caseNumber)
                 .interrogationId(interrogation.getId())
@@ -289,13 +218,11 @@ public class NotificationService {
 
         String destination = buildOtherInterrogationDestination(caseNumber, interrogation.getId());
 
-        for (String userEmail : userEmails) {
-            messagingTemplate.convertAndSendToUser(userEmail, destination, notification);
-            log.info("Interrogation notification sent to user: {}", userEmail);
-        }
+        dispatcher.submit(caseNumber, destination + "#" + qaId + "#" + fieldName,
+                () -> replayBuffer.sendToCase(caseNumber, destination, notification));
 
-        log.info("Interrogation notification sent to {} users for interrogation: {} qa: {} ({})",
-                userEmails.size(), interrogation.getId(), qaId, status);
+        log.info("Interrogation notification queued for case {} for interrogation: {} qa: {} ({})",
+                caseNumber, interrogation.getId(), qaId, status);
     }
 
     public void notifyPlanApproved(Case caseEntity, User approver, int level) {
@@ -334,7 +261,7 @@ public class NotificationService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSendToUser(
+        replayBuffer.sendToUser(
                 approver.getEmail(),
                 buildPlanDestination(caseEntity.getNumber()),
                 notification
@@ -401,7 +328,7 @@ public class NotificationService {
                 .build();
 
         String destination = buildPlanDestination(caseEntity.getNumber());
-        messagingTemplate.convertAndSendToUser(supervisor.getEmail(), destination, notification);
+        replayBuffer.sendToUser(supervisor.getEmail(), destination, notification);
 
         sendGlobalPlanNotification(supervisor.getEmail(), notification);
 
@@ -410,22 +337,14 @@ public class NotificationService {
     }
 
     private void sendPlanNotification(String caseNumber, PlanStatusNotification notification) {
-        Set<String> userEmails = caseRepository
-                .findAllAccessibleUserEmailsByCaseNumber(caseNumber);
-
-        String destination = buildPlanDestination(caseNumber);
-
-        for (String email : userEmails) {
-            messagingTemplate.convertAndSendToUser(email, destination, notification);
-            log.info("Plan status notification sent to user: {}", email);
-        }
+        replayBuffer.sendToCase(caseNumber, buildCasePlanTopic(caseNumber), notification);
 
-        log.info("Plan notification [{}] sent to {} users for case {}",
-                notification.getPlanStatus(), userEmails.size(), caseNumber);
+        log.info("Plan notification [{}] sent to case {}",
+                notification.getPlanStatus(), caseNumber);
     }
     private void sendGlobalPlanNotification(String userEmail, PlanStatusNotification notification) {
         savePlanNotification(userEmail, notification);
-        messagingTemplate.convertAndSendToUser(
+        replayBuffer.sendToUser(
                 userEmail,
                 buildGlobalPlanDestination(),
                 notification
@@ -438,12 +357,6 @@ public class NotificationService {
                                                   InterrogationTimeEvent event,
                                                   String message,
                                                   InterrogationTimeStatusResponse status) {
-        Set<String> userEmails = caseRepository.findAllAccessibleUserEmailsByCaseNumber(caseNumber);
-        if (userEmails.isEmpty()) {
-            log.warn("No users found with access to case: {}", caseNumber);
-            return;
-        }
-
         InterrogationTimeNotification notification = InterrogationTimeNotification.builder()
                 .caseNumber(caseNumber)
                 .interrogationId(interrogation.getId())
@@ -465,26 +378,22 @@ public class NotificationService {
 
         String destination = buildInterrogationTimeDestination(caseNumber, interrogation.getId());
 
-        for (String userEmail : userEmails) {
-            messagingTemplate.convertAndSendToUser(userEmail, destination, notification);
-        }
+        // events differ in meaning (warning, limit, break over), so they are never merged
+        dispatcher.submit(caseNumber, null, () -> replayBuffer.sendToCase(caseNumber, destination, notification));
 
-        log.info("Time notification [{}] sent to {} users for interrogation {} in case {}",
-                event, userEmails.size(), interrogation.getId(), caseNumber);
+        log.info("Time notification [{}] queued for interrogation {} in case {}",
+                event, interrogation.getId(), caseNumber);
     }
 
     private String buildInterrogationTimeDestination(String caseNumber, Long interrogationId) {
-        return String.format("/queue/case/%s/interrogation/%d/time", caseNumber, interrogationId);
+        return caseTopic(caseNumber, String.format("interrogation/%d/time", interrogationId));
     }
 
     private String buildInterrogationDestination(String caseNumber, Long interrogationId) {
-        return String.format("/queue/case/%s/interrogation/%d/status", caseNumber, interrogationId);
+        return caseTopic(caseNumber, String.format("interrogation/%d/status", interrogationId));
     }
     private String buildOtherInterrogationDestination(String caseNumber, Long interrogationId) {
-        return String.format("/queue/case/%s/interrogation/%d/other/status", caseNumber, interrogationId);
-    }
-    private String buildCaseDestination(String caseNumber) {
-        return String.format("/queue/case/%s/status", caseNumber);
+        return caseTopic(caseNumber, String.format("interrogation/%d/other/status", interrogationId));
     }
     private String buildAppealDestination() {
         return "/queue/appeals";
@@ -492,6 +401,9 @@ public class NotificationService {
     private String buildPlanDestination(String caseNumber) {
         return String.format("/queue/case/%s/plan/status", caseNumber);
     }
+    private String buildCasePlanTopic(String caseNumber) {
+        return caseTopic(caseNumber, "plan/status");
+    }
     private String buildGlobalPlanDestination() {
         return "/queue/plan/status";
     }
@@ -501,11 +413,6 @@ public class NotificationService {
     private String buildReportDestination() {
         return "/queue/review/status";
     }
-    private String getCaseTitle(String caseNumber) {
-        return caseRepository.findByNumber(caseNumber)
-                .map(Case::getTitle)
-                .orElse("Unknown Case");
-    }
     private void savePlanNotification(String userEmail, PlanStatusNotification n) {
         /*List<PlanNotification> existing = planNotificationRepository
                 .findTop4ByUserEmailOrderByCreatedAtDesc(userEmail);
@@ -532,29 +439,33 @@ public class NotificationService {
     }
 
     public void notifyOsmotrStatus(OsmotrResultMessage message) {
-        try {
-            messagingTemplate.convertAndSendToUser(
-                    message.getUserEmail(),
-                    buildOsmotrDestination(),
-                    message
-            );
-            log.info("Osmotr WS notification sent to {} for fileId={}, status={}",
-                    message.getUserEmail(), message.getFileId(), message.getStatus());
-        } catch (Exception e) {
-            log.error("Osmotr WS notification failed for {}: {}", message.getUserEmail(), e.getMessage());
-        }
+        dispatcher.submit(message.getUserEmail(), null, () -> {
+            try {
+                replayBuffer.sendToUser(
+                        message.getUserEmail(),
+                        buildOsmotrDestination(),
+                        message
+                );
+                log.info("Osmotr WS notification sent to {} for fileId={}, status={}",
+                        message.getUserEmail(), message.getFileId(), message.getStatus());
+            } catch (Exception e) {
+                log.error("Osmotr WS notification failed for {}: {}", message.getUserEmail(), e.getMessage());
+            }
+        });
     }
     public void notifyReportStatus(ReportResultMessage message) {
-        try {
-            messagingTemplate.convertAndSendToUser(
-                    message.getUserEmail(),
-                    buildReportDestination(),
-                    message
-            );
-            log.info("Report WS notification sent to {}, status={}",
-                    message.getUserEmail(), message.getStatus());
-        } catch (Exception e) {
-            log.error("Report WS notification failed for {}: {}", message.getUserEmail(), e.getMessage());
-        }
+        dispatcher.submit(message.getUserEmail(), null, () -> {
+            try {
+                replayBuffer.sendToUser(
+                        message.getUserEmail(),
+                        buildReportDestination(),
+                        message
+                );
+                log.info("Report WS notification sent to {}, status={}",
+                        message.getUserEmail(), message.getStatus());
+            } catch (Exception e) {
+                log.error("Report WS notification failed for {}: {}", message.getUserEmail(), e.getMessage());
+            }
+        });
     }
 }
\ No newline at end of file
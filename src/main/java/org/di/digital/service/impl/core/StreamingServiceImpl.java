@@ -2,40 +2,74 @@ package org.di.digital.service.impl.core;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiCallMetrics;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.service.core.StreamingService;
+import org.di.digital.service.impl.core.sse.SseChunkCoalescer;
+import org.di.digital.service.impl.core.sse.SseHeartbeatUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StreamingServiceImpl implements StreamingService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
+    private final SseHeartbeatUtil heartbeatUtil;
 
     private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(20);
+    private static final Pattern TRAILING_NEWLINES = Pattern.compile("\n{2,}$");
+
+    @Value("${sse.coalesce.window-ms:30}")
+    private long coalesceWindowMs;
+
+    @Value("${sse.coalesce.max-chars:512}")
+    private int coalesceMaxChars;
 
     @Override
     public void stream(
+            AiBackend backend,
+            String endpoint,
             String url,
             Object body,
             SseEmitter emitter,
             Function<String, String> chunkExtractor,
             Consumer<String> onComplete,
             Consumer<Throwable> onError
+    ) {
+        stream(backend, endpoint, url, body, emitter, chunkExtractor, onComplete, onError, null);
+    }
+
+    @Override
+    public void stream(
+            AiBackend backend,
+            String endpoint,
+            String url,
+            Object body,
+            SseEmitter emitter,
+            Function<String, String> chunkExtractor,
+            Consumer<String> onComplete,
+            Consumer<Throwable> onError,
+            Consumer<String> onCancel
     ) {
         StringBuilder fullText = new StringBuilder();
+        SseChunkCoalescer coalescer = new SseChunkCoalescer(emitter, coalesceWindowMs, coalesceMaxChars);
 
-        webClientBuilder.build()
+        Disposable upstream = webClients.get(backend)
                 .post()
                 .uri(url)
+                .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, endpoint)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.TEXT_EVENT_STREAM)
                 .bodyValue(body)
@@ -47,7 +81,8 @@ public class StreamingServiceImpl implements StreamingService {
                         String extracted = chunkExtractor.apply(chunk);
                         if (extracted != null && !extracted.isEmpty()) {
                             fullText.append(extracted);
-                            emitter.send(SseEmitter.event().data(extracted));
+                            coalescer.append(extracted);
+                            heartbeatUtil.touch(emitter);
                         }
                     } catch (Exception e) {
                         log.error("Error sending SSE chunk from {}: {}", url, e.getMessage());
@@ -55,6 +90,7 @@ public class StreamingServiceImpl implements StreamingService {
                 })
                 .doOnComplete(() -> {
                     log.info("Streaming completed for url={}, total chars={}", url, fullText.length());
+                    flushQuietly(coalescer, url);
                     if (onComplete != null) {
                         onComplete.accept(fullText.toString());
                     }
@@ -67,11 +103,20 @@ public class StreamingServiceImpl implements StreamingService {
                     }
                     emitter.completeWithError(error);
                 })
+                .doOnCancel(() -> {
+                    log.info("Streaming cancelled for url={}, client disconnected", url);
+                    if (onCancel != null) {
+                        onCancel.accept(fullText.toString());
+                    }
+                })
                 .subscribe();
+        cancelOnDisconnect(emitter, upstream);
     }
 
     @Override
     public void streamRaw(
+            AiBackend backend,
+            String endpoint,
             String url,
             Object body,
             SseEmitter emitter,
@@ -79,11 +124,13 @@ public class StreamingServiceImpl implements StreamingService {
             Consumer<Throwable> onError
     ) {
         StringBuilder fullText = new StringBuilder();
+        SseChunkCoalescer coalescer = new SseChunkCoalescer(emitter, coalesceWindowMs, coalesceMaxChars);
         AtomicBoolean isFirstChunk = new AtomicBoolean(true);
 
-        webClientBuilder.build()
+        Disposable upstream = webClients.get(backend)
                 .post()
                 .uri(url)
+                .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, endpoint)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.TEXT_EVENT_STREAM)
                 .bodyValue(body)
@@ -93,7 +140,7 @@ public class StreamingServiceImpl implements StreamingService {
                 .doOnNext(chunk -> {
                     try {
                         if (chunk != null && !chunk.isEmpty()) {
-                            String normalized = chunk.replaceAll("\n{2,}$", "\n");
+                            String normalized = TRAILING_NEWLINES.matcher(chunk).replaceAll("\n");
 
                             String toSend;
                             if (isFirstChunk.getAndSet(false)) {
@@ -103,7 +150,8 @@ public class StreamingServiceImpl implements StreamingService {
                             }
 
                             fullText.append(toSend);
-                            emitter.send(SseEmitter.event().data(toSend));
+                            coalescer.append(toSend);
+                            heartbeatUtil.touch(emitter);
                         }
                     } catch (Exception e) {
                         log.error("Error sending SSE chunk from {}: {}", url, e.getMessage());
@@ -111,6 +159,7 @@ public class StreamingServiceImpl implements StreamingService {
                 })
                 .doOnComplete(() -> {
                     log.info("Streaming completed for url={}, total chars={}", url, fullText.length());
+                    flushQuietly(coalescer, url);
                     if (onComplete != null) {
                         onComplete.accept(fullText.toString());
                     }
@@ -123,9 +172,13 @@ public class StreamingServiceImpl implements StreamingService {
                     }
                     emitter.completeWithError(error);
                 })
+                .doOnCancel(() -> log.info("Streaming cancelled for url={}, client disconnected", url))
                 .subscribe();
+        cancelOnDisconnect(emitter, upstream);
     }
     public void stream(
+            AiBackend backend,
+            String endpoint,
             String url,
             Object body,
             SseEmitter emitter,
@@ -135,11 +188,13 @@ public class StreamingServiceImpl implements StreamingService {
             boolean addParagraphSeparator
     ) {
         StringBuilder fullText = new StringBuilder();
+        SseChunkCoalescer coalescer = new SseChunkCoalescer(emitter, coalesceWindowMs, coalesceMaxChars);
         AtomicBoolean isFirstChunk = new AtomicBoolean(true);
 
-        webClientBuilder.build()
+        Disposable upstream = webClients.get(backend)
                 .post()
                 .uri(url)
+                .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, endpoint)
                 .contentType(MediaType.APPLICATION_JSON)
                 .accept(MediaType.TEXT_EVENT_STREAM)
                 .bodyValue(body)
@@ -157,7 +212,8 @@ public class StreamingServiceImpl implements StreamingService {
                             }
 
                             fullText.append(toSend);
-                            emitter.send(SseEmitter.event().data(toSend));
+                            coalescer.append(toSend);
+                            heartbeatUtil.touch(emitter);
                         }
                     } catch (Exception e) {
                         log.error("Error sending SSE chunk from {}: {}", url, e.getMessage());
@@ -165,6 +221,7 @@ public class StreamingServiceImpl implements StreamingService {
                 })
                 .doOnComplete(() -> {
                     log.info("Streaming completed for url={}, total chars={}", url, fullText.length());
+                    flushQuietly(coalescer, url);
                     if (onComplete != null) {
                         onComplete.accept(fullText.toString());
                     }
@@ -177,7 +234,26 @@ public class StreamingServiceImpl implements StreamingService {
                     }
                     emitter.completeWithError(error);
                 })
+                .doOnCancel(() -> log.info("Streaming cancelled for url={}, client disconnected", url))
                 .subscribe();
+        cancelOnDisconnect(emitter, upstream);
+    }
+
+    /**
+     * Disposes the upstream subscription once the emitter is done for any reason, which
+     * aborts the HTTP exchange with the model instead of letting it run to the end unread.
+     */
+    private void cancelOnDisconnect(SseEmitter emitter, Disposable upstream) {
+        emitter.onCompletion(upstream::dispose);
+        emitter.onTimeout(upstream::dispose);
+        emitter.onError(error -> upstream.dispose());
     }
 
-}
\ No newline at end of file
+    private void flushQuietly(SseChunkCoalescer coalescer, String url) {
+        try {
+            coalescer.flush();
+        } catch (Exception e) {
+            log.error("Error flushing SSE chunks from {}: {}", url, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package org.di.digital.service.impl.core.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Two-tier cache of model answers keyed by endpoint, normalized request inputs and the
+ * case corpus version. The corpus version is a Redis counter per case that is bumped
+ * whenever a case file finishes processing, is deleted or changes its qualification
+ * flag, so answers computed against an older corpus are never served again and simply
+ * age out.
+ * <p>
+ * Lookups go to a bounded in-process LRU first, then to Redis; misses call the loader
+ * and store non-null results in both tiers. Any Redis failure degrades to calling the
+ * loader directly. Results are counted in {@code ai.cache.requests} by endpoint and tier.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiAnswerCache {
+
+    private static final String ANSWER_PREFIX = "ai:answer:";
+    private static final String CORPUS_PREFIX = "ai:corpus:";
+    private static final String NO_CASE = "-";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.cache.local.max-entries:2000}")
+    private int localMaxEntries;
+
+    @Value("${ai.cache.max-value-chars:200000}")
+    private int maxValueChars;
+
+    @Value("${ai.cache.ttl:6h}")
+    private Duration ttl;
+
+    private final Map<String, String> local = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > localMaxEntries;
+        }
+    };
+
+    /**
+     * Returns the cached answer for {@code endpoint} and {@code inputs} in the current
+     * corpus of {@code caseNumber} (may be {@code null} for case-independent endpoints),
+     * computing it with {@code loader} on a miss.
+     */
+    public <T> T getOrLoad(String endpoint, String caseNumber, Class<T> type, Supplier<T> loader,
+                           Object... inputs) {
+        String key = keyOrNull(endpoint, caseNumber, inputs);
+        if (key == null) {
+            return loader.get();
+        }
+        T cached = lookup(endpoint, key, type);
+        if (cached != null) {
+            return cached;
+        }
+        T value = loader.get();
+        store(key, value);
+        return value;
+    }
+
+    /**
+     * Cache lookup for answers that are produced asynchronously, e.g. streamed; pair with
+     * {@link #put} once the answer is complete. Returns {@code null} on a miss.
+     */
+    public <T> T find(String endpoint, String caseNumber, Class<T> type, Object... inputs) {
+        String key = keyOrNull(endpoint, caseNumber, inputs);
+        return key != null ? lookup(endpoint, key, type) : null;
+    }
+
+    public void put(String endpoint, String caseNumber, Object value, Object... inputs) {
+        String key = keyOrNull(endpoint, caseNumber, inputs);
+        if (key != null) {
+            store(key, value);
+        }
+    }
+
+    /**
+     * Invalidates every cached answer for the case. Inside a transaction the bump happens
+     * after commit, so a concurrent request cannot cache an answer for the old corpus
+     * under the new version.
+     */
+    public void bumpCorpusVersion(String caseNumber) {
+        if (caseNumber == null) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    incrementCorpusVersion(caseNumber);
+                }
+            });
+        } else {
+            incrementCorpusVersion(caseNumber);
+        }
+    }
+
+    private void incrementCorpusVersion(String caseNumber) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(CORPUS_PREFIX + caseNumber);
+            log.debug("Corpus version of case {} is now {}", caseNumber, version);
+        } catch (Exception e) {
+            log.error("Failed to bump corpus version of case {}: {}", caseNumber, e.getMessage());
+        }
+    }
+
+    private String keyOrNull(String endpoint, String caseNumber, Object[] inputs) {
+        try {
+            return key(endpoint, caseNumber, inputs);
+        } catch (Exception e) {
+            log.warn("AI cache unavailable for {}: {}", endpoint, e.getMessage());
+            count(endpoint, "bypass");
+            return null;
+        }
+    }
+
+    private <T> T lookup(String endpoint, String key, Class<T> type) {
+        String cached;
+        synchronized (local) {
+            cached = local.get(key);
+        }
+        if (cached != null) {
+            T value = read(cached, type);
+            if (value != null) {
+                count(endpoint, "local");
+                return value;
+            }
+        }
+
+        try {
+            cached = redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("AI cache Redis lookup failed for {}: {}", endpoint, e.getMessage());
+            cached = null;
+        }
+        if (cached != null) {
+            T value = read(cached, type);
+            if (value != null) {
+                putLocal(key, cached);
+                count(endpoint, "redis");
+                return value;
+            }
+        }
+
+        count(endpoint, "miss");
+        return null;
+    }
+
+    private String key(String endpoint, String caseNumber, Object[] inputs) throws NoSuchAlgorithmException {
+        String version = "0";
+        if (caseNumber != null) {
+            String stored = redisTemplate.opsForValue().get(CORPUS_PREFIX + caseNumber);
+            version = stored != null ? stored : "0";
+        }
+
+        String normalized = Arrays.stream(inputs)
+                .map(this::normalize)
+                .collect(Collectors.joining("\u0000"));
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+
+        return ANSWER_PREFIX + endpoint + ":" + (caseNumber != null ? caseNumber : NO_CASE)
+                + ":v" + version + ":" + HexFormat.of().formatHex(digest);
+    }
+
+    private String normalize(Object input) {
+        if (input == null) return "";
+        if (input instanceof CharSequence text) {
+            return WHITESPACE.matcher(text).replaceAll(" ").trim();
+        }
+        if (input instanceof Number || input instanceof Boolean || input instanceof Enum<?>) {
+            return input.toString();
+        }
+        try {
+            return objectMapper.writeValueAsString(input);
+        } catch (Exception e) {
+            throw new IllegalStateException("Не удалось сериализовать ключ кэша", e);
+        }
+    }
+
+    private void store(String key, Object value) {
+        if (value == null) return;
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            log.warn("Failed to serialize AI answer for cache: {}", e.getMessage());
+            return;
+        }
+        if (json.length() > maxValueChars) return;
+
+        putLocal(key, json);
+        try {
+            redisTemplate.opsForValue().set(key, json, ttl);
+        } catch (Exception e) {
+            log.warn("AI cache Redis write failed: {}", e.getMessage());
+        }
+    }
+
+    private void putLocal(String key, String json) {
+        synchronized (local) {
+            local.put(key, json);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("Dropping unreadable cached AI answer: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void count(String endpoint, String result) {
+        Counter.builder("ai.cache.requests")
+                .description("AI answer cache lookups by result")
+                .tag("endpoint", endpoint)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,131 @@
+package org.di.digital.service.impl.core.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.di.digital.model.cases.Case;
+import org.di.digital.repository.cases.CaseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * In-process cache of who receives notifications of a case and of its title, so that
+ * notification fan-out does not query the database once the cache is warm.
+ * <p>
+ * Entries are evicted by {@link CaseAudienceChangedEvent} after the changing transaction
+ * commits; {@code ttl} only bounds the damage of a change that published no event. With
+ * {@code notification.audience-cache.redis-invalidation.enabled} evictions are also
+ * broadcast on {@link #INVALIDATION_CHANNEL} and applied by the other nodes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseAudienceCache {
+
+    public static final String INVALIDATION_CHANNEL = "case-audience-invalidation";
+    private static final String ALL_CASES = "*";
+
+    private static final String UNKNOWN_TITLE = "Unknown Case";
+
+    private final CaseRepository caseRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${notification.audience-cache.max-entries:5000}")
+    private int maxEntries;
+
+    @Value("${notification.audience-cache.ttl:10m}")
+    private Duration ttl;
+
+    @Value("${notification.audience-cache.redis-invalidation.enabled:false}")
+    private boolean redisInvalidation;
+
+    private final Map<String, Audience> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Audience> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /**
+     * Database reads in flight per case. An eviction removes the token, so a load that
+     * started before the eviction does not put its stale result back for a whole ttl.
+     * Guarded by {@code cache}.
+     */
+    private final Map<String, Object> pendingLoads = new HashMap<>();
+
+    /**
+     * Emails of the owner and all members of the case; empty for an unknown case.
+     */
+    public Set<String> members(String caseNumber) {
+        return get(caseNumber).map(Audience::members).orElse(Set.of());
+    }
+
+    public String title(String caseNumber) {
+        return get(caseNumber).map(Audience::title).orElse(UNKNOWN_TITLE);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAudienceChanged(CaseAudienceChangedEvent event) {
+        String caseNumber = event.caseNumber() != null ? event.caseNumber() : ALL_CASES;
+        evictLocal(caseNumber);
+        if (redisInvalidation) {
+            try {
+                redisTemplate.convertAndSend(INVALIDATION_CHANNEL, caseNumber);
+            } catch (Exception e) {
+                log.warn("Failed to broadcast audience invalidation for case {}: {}", caseNumber, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drops the cached audience of {@code caseNumber}, or of every case for {@code "*"}.
+     */
+    public void evictLocal(String caseNumber) {
+        synchronized (cache) {
+            if (ALL_CASES.equals(caseNumber)) {
+                cache.clear();
+                pendingLoads.clear();
+            } else {
+                cache.remove(caseNumber);
+                pendingLoads.remove(caseNumber);
+            }
+        }
+        log.debug("Evicted notification audience of case {}", caseNumber);
+    }
+
+    private Optional<Audience> get(String caseNumber) {
+        long now = System.currentTimeMillis();
+        Object load = new Object();
+        synchronized (cache) {
+            Audience cached = cache.get(caseNumber);
+            if (cached != null && now - cached.loadedAt() < ttl.toMillis()) {
+                return Optional.of(cached);
+            }
+            pendingLoads.put(caseNumber, load);
+        }
+
+        // unknown cases are not cached: the number may be taken by a case created later
+        Optional<Audience> loaded = caseRepository.findByNumber(caseNumber)
+                .map(caseEntity -> new Audience(
+                        Set.copyOf(caseRepository.findAllAccessibleUserEmailsByCaseNumber(caseNumber)),
+                        Optional.ofNullable(caseEntity.getTitle()).orElse(UNKNOWN_TITLE),
+                        now));
+        synchronized (cache) {
+            // evicted while reading, or superseded by a later load of the same case
+            if (pendingLoads.remove(caseNumber, load)) {
+                loaded.ifPresent(audience -> cache.put(caseNumber, audience));
+            }
+        }
+        return loaded;
+    }
+
+    private record Audience(Set<String> members, String title, long loadedAt) {}
+}
@@ -0,0 +1,12 @@
+package org.di.digital.service.impl.core.notification;
+
+/**
+ * Published when the members, owner, number or title of a case change, or the case is
+ * deleted. A {@code null} case number means that several cases changed at once.
+ */
+public record CaseAudienceChangedEvent(String caseNumber) {
+
+    public static CaseAudienceChangedEvent allCases() {
+        return new CaseAudienceChangedEvent(null);
+    }
+}
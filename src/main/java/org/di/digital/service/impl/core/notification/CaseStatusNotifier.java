@@ -0,0 +1,250 @@
+package org.di.digital.service.impl.core.notification;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.di.digital.dto.notification.CaseProcessingNotification;
+import org.di.digital.dto.notification.FileStatusInfo;
+import org.di.digital.model.cases.CaseFile;
+import org.di.digital.model.enums.file.CaseFileStatusEnum;
+import org.di.digital.repository.cases.CaseFileRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.di.digital.config.websocket.CaseTopicInterceptor.caseTopic;
+
+/**
+ * Sends case file status notifications as coalesced deltas. File changes of one case are
+ * collected for {@code notification.case.coalesce-ms} after the first one and then sent
+ * as a single notification, broadcast once to the case topic, that carries only the
+ * changed files, current per-status counts and the next value of a per-case sequence
+ * kept in Redis.
+ * <p>
+ * The window timer only hands the flush to {@link NotificationDispatcher}; snapshot and
+ * delta building run on its lanes.
+ * <p>
+ * Clients apply deltas in sequence order and reload {@link #snapshot} when they see a
+ * gap. When no sequence can be assigned, or a change names no file, a full snapshot is
+ * sent instead of a delta.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaseStatusNotifier {
+
+    private static final String SEQUENCE_PREFIX = "notify:case-seq:";
+
+    private final NotificationReplayBuffer replayBuffer;
+    private final CaseAudienceCache caseAudienceCache;
+    private final CaseFileRepository caseFileRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final NotificationDispatcher dispatcher;
+
+    @Value("${notification.case.coalesce-ms:250}")
+    private long coalesceMs;
+
+    private final Map<String, PendingChanges> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "case-notify");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Records a change of {@code fileId} (may be {@code null} when the whole case changed).
+     * Inside a transaction the change is queued after commit, so the flush reads the
+     * committed state.
+     */
+    public void fileChanged(String caseNumber, Long fileId, String activity, String fileName) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(caseNumber, fileId, activity, fileName);
+                }
+            });
+        } else {
+            enqueue(caseNumber, fileId, activity, fileName);
+        }
+    }
+
+    /**
+     * Full state of the case files for clients that (re)subscribe or detected a gap. The
+     * sequence is read before the files, so applying every later delta is safe.
+     */
+    public CaseProcessingNotification snapshot(String caseNumber) {
+        return buildSnapshot(caseNumber, currentSequence(caseNumber));
+    }
+
+    private void enqueue(String caseNumber, Long fileId, String activity, String fileName) {
+        pending.compute(caseNumber, (key, changes) -> {
+            if (changes == null) {
+                changes = new PendingChanges();
+                scheduler.schedule(() -> dispatcher.submit(key, "case-status:" + key, () -> flush(key)),
+                        coalesceMs, TimeUnit.MILLISECONDS);
+            }
+            changes.add(fileId, activity, fileName);
+            return changes;
+        });
+    }
+
+    private void flush(String caseNumber) {
+        PendingChanges changes = pending.remove(caseNumber);
+        if (changes == null) return;
+
+        try {
+            Long sequence = nextSequence(caseNumber);
+            CaseProcessingNotification notification = sequence == null || changes.fullSnapshot
+                    ? buildSnapshot(caseNumber, sequence)
+                    : buildDelta(caseNumber, sequence, changes.fileIds);
+            notification.setLatestActivity(changes.latestActivity);
+            notification.setLatestFileId(changes.latestFileId);
+            notification.setLatestFileName(changes.latestFileName);
+
+            replayBuffer.sendToCase(caseNumber, buildCaseDestination(caseNumber), notification);
+
+            DistributionSummary.builder("notification.case.coalesced")
+                    .description("File changes merged into one case notification")
+                    .register(meterRegistry)
+                    .record(changes.events);
+
+            log.info("Case notification #{} ({}, {} changes) sent to case {} - Files: {} total, {} processing, {} completed, {} failed",
+                    sequence, notification.isSnapshot() ? "snapshot" : "delta", changes.events, caseNumber,
+                    notification.getTotalFiles(), notification.getProcessingFiles(),
+                    notification.getCompletedFiles(), notification.getFailedFiles());
+        } catch (Exception e) {
+            log.error("Failed to send case notification for case {}: {}", caseNumber, e.getMessage(), e);
+        }
+    }
+
+    private CaseProcessingNotification buildDelta(String caseNumber, Long sequence, Set<Long> fileIds) {
+        List<FileStatusInfo> files = new ArrayList<>();
+        Set<Long> removed = new LinkedHashSet<>(fileIds);
+        for (CaseFile file : caseFileRepository.findAllById(fileIds)) {
+            files.add(toFileStatus(file));
+            removed.remove(file.getId());
+        }
+
+        Map<CaseFileStatusEnum, Integer> counts = new EnumMap<>(CaseFileStatusEnum.class);
+        for (Object[] row : caseFileRepository.countByStatusForCase(caseNumber)) {
+            counts.put((CaseFileStatusEnum) row[0], ((Number) row[1]).intValue());
+        }
+
+        return withCounts(CaseProcessingNotification.builder(), counts)
+                .caseNumber(caseNumber)
+                .caseTitle(caseAudienceCache.title(caseNumber))
+                .sequence(sequence)
+                .snapshot(false)
+                .files(files)
+                .removedFileIds(List.copyOf(removed))
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private CaseProcessingNotification buildSnapshot(String caseNumber, Long sequence) {
+        List<CaseFile> caseFiles = caseFileRepository.findByCaseEntityNumber(caseNumber);
+
+        Map<CaseFileStatusEnum, Integer> counts = new EnumMap<>(CaseFileStatusEnum.class);
+        caseFiles.forEach(file -> counts.merge(file.getStatus(), 1, Integer::sum));
+
+        return withCounts(CaseProcessingNotification.builder(), counts)
+                .caseNumber(caseNumber)
+                .caseTitle(caseAudienceCache.title(caseNumber))
+                .sequence(sequence)
+                .snapshot(true)
+                .files(caseFiles.stream().map(this::toFileStatus).toList())
+                .removedFileIds(List.of())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private CaseProcessingNotification.CaseProcessingNotificationBuilder withCounts(
+            CaseProcessingNotification.CaseProcessingNotificationBuilder builder,
+            Map<CaseFileStatusEnum, Integer> counts) {
+        return builder
+                .totalFiles(counts.values().stream().mapToInt(Integer::intValue).sum())
+                .pendingFiles(counts.getOrDefault(CaseFileStatusEnum.PENDING, 0))
+                .processingFiles(counts.getOrDefault(CaseFileStatusEnum.PROCESSING, 0))
+                .completedFiles(counts.getOrDefault(CaseFileStatusEnum.COMPLETED, 0))
+                .failedFiles(counts.getOrDefault(CaseFileStatusEnum.FAILED, 0));
+    }
+
+    private FileStatusInfo toFileStatus(CaseFile file) {
+        return FileStatusInfo.builder()
+                .fileId(file.getId())
+                .fileName(file.getOriginalFileName())
+                .status(file.getStatus())
+                .uploadedAt(file.getUploadedAt())
+                .completedAt(file.getCompletedAt())
+                .errorMessage(null)
+                .build();
+    }
+
+    private Long nextSequence(String caseNumber) {
+        try {
+            return redisTemplate.opsForValue().increment(SEQUENCE_PREFIX + caseNumber);
+        } catch (Exception e) {
+            log.warn("Case notification sequence unavailable for {}: {}", caseNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private Long currentSequence(String caseNumber) {
+        try {
+            String stored = redisTemplate.opsForValue().get(SEQUENCE_PREFIX + caseNumber);
+            return stored != null ? Long.parseLong(stored) : 0L;
+        } catch (Exception e) {
+            log.warn("Case notification sequence unavailable for {}: {}", caseNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private String buildCaseDestination(String caseNumber) {
+        return caseTopic(caseNumber, "status");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        List.copyOf(pending.keySet()).forEach(this::flush);
+    }
+
+    private static final class PendingChanges {
+        private final Set<Long> fileIds = new LinkedHashSet<>();
+        private boolean fullSnapshot;
+        private int events;
+        private String latestActivity;
+        private Long latestFileId;
+        private String latestFileName;
+
+        void add(Long fileId, String activity, String fileName) {
+            if (fileId != null) {
+                fileIds.add(fileId);
+            } else {
+                fullSnapshot = true;
+            }
+            events++;
+            latestActivity = activity;
+            latestFileId = fileId;
+            latestFileName = fileName;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package org.di.digital.service.impl.core.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-process pipeline for WebSocket notifications, so that Rabbit consumers,
+ * schedulers and request threads only enqueue and never wait for the broker or for
+ * snapshot building.
+ * <p>
+ * Work is split into {@code notification.dispatch.lanes} single-threaded lanes by
+ * partition (the case number), which keeps notifications of one case in order. A task
+ * with a merge key replaces a queued task with the same key in place: only the latest
+ * state of e.g. one interrogation answer is sent. When a lane is full the oldest queued
+ * task without a merge key is dropped. Keyed tasks are never dropped: their owners, such
+ * as {@link CaseStatusNotifier}, rely on them running, and merging already bounds them to
+ * one per key. {@link #submit} never blocks.
+ * <p>
+ * Metrics: {@code notification.dispatch.queue.depth}, {@code notification.dispatch.lag}
+ * (enqueue to start), {@code notification.dispatch.merged}, {@code .dropped} and
+ * {@code .failed}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDispatcher {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notification.dispatch.lanes:4}")
+    private int laneCount;
+
+    @Value("${notification.dispatch.lane-capacity:2000}")
+    private int laneCapacity;
+
+    private final List<Lane> lanes = new ArrayList<>();
+    private Timer lag;
+    private Counter merged;
+    private Counter dropped;
+    private Counter failed;
+
+    @PostConstruct
+    void start() {
+        lag = Timer.builder("notification.dispatch.lag")
+                .description("Time notifications spend queued before being sent")
+                .serviceLevelObjectives(Duration.ofMillis(10), Duration.ofMillis(50), Duration.ofMillis(250),
+                        Duration.ofSeconds(1), Duration.ofSeconds(5))
+                .register(meterRegistry);
+        merged = Counter.builder("notification.dispatch.merged")
+                .description("Notifications replaced by a newer one with the same key while queued")
+                .register(meterRegistry);
+        dropped = Counter.builder("notification.dispatch.dropped")
+                .description("Notifications dropped because the queue was full")
+                .register(meterRegistry);
+        failed = Counter.builder("notification.dispatch.failed")
+                .description("Notifications that failed to send")
+                .register(meterRegistry);
+        Gauge.builder("notification.dispatch.queue.depth", this, NotificationDispatcher::depth)
+                .description("Notifications waiting to be sent")
+                .register(meterRegistry);
+
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane();
+            Thread.ofPlatform().daemon().name("notify-dispatch-" + i).start(lane::run);
+            lanes.add(lane);
+        }
+    }
+
+    /**
+     * Queues {@code action} on the lane of {@code partition}.
+     *
+     * @param mergeKey tasks with equal non-null keys collapse into the latest one while queued
+     */
+    public void submit(String partition, String mergeKey, Runnable action) {
+        lanes.get(Math.floorMod(partition != null ? partition.hashCode() : 0, lanes.size()))
+                .offer(mergeKey, action);
+    }
+
+    private double depth() {
+        return lanes.stream().mapToInt(Lane::size).sum();
+    }
+
+    @PreDestroy
+    void stop() {
+        lanes.forEach(Lane::stop);
+    }
+
+    private final class Lane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition notEmpty = lock.newCondition();
+        private final Deque<Task> queue = new ArrayDeque<>();
+        private final Map<String, Task> byKey = new HashMap<>();
+        private boolean stopped;
+
+        void offer(String mergeKey, Runnable action) {
+            lock.lock();
+            try {
+                if (mergeKey != null) {
+                    Task queued = byKey.get(mergeKey);
+                    if (queued != null) {
+                        queued.action = action;
+                        merged.increment();
+                        return;
+                    }
+                }
+                if (queue.size() >= laneCapacity && !dropOldestUnkeyed() && mergeKey == null) {
+                    dropped.increment();
+                    log.warn("Notification queue full of keyed notifications, dropped the new one");
+                    return;
+                }
+                Task task = new Task(mergeKey, action, System.nanoTime());
+                queue.addLast(task);
+                if (mergeKey != null) byKey.put(mergeKey, task);
+                notEmpty.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean dropOldestUnkeyed() {
+            Iterator<Task> tasks = queue.iterator();
+            while (tasks.hasNext()) {
+                if (tasks.next().mergeKey == null) {
+                    tasks.remove();
+                    dropped.increment();
+                    log.warn("Notification queue full, dropped oldest unkeyed notification");
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void run() {
+            while (true) {
+                Task task;
+                lock.lock();
+                try {
+                    while (queue.isEmpty() && !stopped) {
+                        notEmpty.awaitUninterruptibly();
+                    }
+                    if (queue.isEmpty()) return;
+                    task = queue.pollFirst();
+                    if (task.mergeKey != null) byKey.remove(task.mergeKey);
+                } finally {
+                    lock.unlock();
+                }
+
+                lag.record(System.nanoTime() - task.enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    task.action.run();
+                } catch (Exception e) {
+                    failed.increment();
+                    log.error("Failed to dispatch notification {}: {}", task.mergeKey, e.getMessage(), e);
+                }
+            }
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return queue.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // lets the lane drain what is already queued, then exit
+        void stop() {
+            lock.lock();
+            try {
+                stopped = true;
+                notEmpty.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Task {
+        private final String mergeKey;
+        private final long enqueuedAt;
+        private Runnable action;
+
+        private Task(String mergeKey, Runnable action, long enqueuedAt) {
+            this.mergeKey = mergeKey;
+            this.action = action;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
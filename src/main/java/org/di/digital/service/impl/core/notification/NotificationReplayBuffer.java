@@ -0,0 +1,180 @@
+package org.di.digital.service.impl.core.notification;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.di.digital.dto.notification.NotificationReplay;
+import org.di.digital.dto.notification.ReplayedNotification;
+import org.di.digital.dto.request.user.NotificationReplayRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends case and personal notifications with a stream sequence number and keeps the last
+ * {@code notification.replay.capacity} of every stream, so a client that reconnects
+ * after a network blip can fetch only what it missed instead of reloading whole pages.
+ * <p>
+ * There is one stream per user (everything sent to its {@code /user/queue/...}
+ * destinations) and one per case (its {@code /topic/case/{n}/...} topics, which are
+ * broadcast once to all members). Every frame carries the native headers
+ * {@code notification-stream} and {@code notification-seq}.
+ * <p>
+ * Sequences and buffers live in Redis, so they are shared by all nodes; buffers expire
+ * {@code notification.replay.ttl} after the last notification, sequences never do. When
+ * Redis is unavailable the notification is still sent, without a sequence. A sequence is
+ * taken and its entry buffered by one script, so no sequence is ever handed out without
+ * its entry.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationReplayBuffer {
+
+    public static final String STREAM_HEADER = "notification-stream";
+    public static final String SEQUENCE_HEADER = "notification-seq";
+
+    private static final String SEQUENCE_PREFIX = "notify:replay-seq:";
+    private static final String BUFFER_PREFIX = "notify:replay:";
+
+    // KEYS: sequence, buffer; ARGV: entry JSON without the sequence, capacity, ttl in ms
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local sequence = redis.call('INCR', KEYS[1])
+            redis.call('RPUSH', KEYS[2], '{"sequence":' .. sequence .. ',' .. string.sub(ARGV[1], 2))
+            redis.call('LTRIM', KEYS[2], -tonumber(ARGV[2]), -1)
+            redis.call('PEXPIRE', KEYS[2], ARGV[3])
+            return sequence
+            """, Long.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final CaseAudienceCache caseAudienceCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${notification.replay.capacity:200}")
+    private int capacity;
+
+    @Value("${notification.replay.ttl:15m}")
+    private Duration ttl;
+
+    /**
+     * Broadcasts {@code payload} to a case topic as the next notification of the case stream.
+     */
+    public void sendToCase(String caseNumber, String destination, Object payload) {
+        String stream = caseStream(caseNumber);
+        Map<String, Object> headers = record(stream, destination, payload);
+        messagingTemplate.convertAndSend(destination, payload, headers);
+    }
+
+    /**
+     * Sends {@code payload} to a {@code /queue/...} destination of the user as the next
+     * notification of their personal stream.
+     */
+    public void sendToUser(String userEmail, String destination, Object payload) {
+        String stream = userStream(userEmail);
+        Map<String, Object> headers = record(stream, "/user" + destination, payload);
+        messagingTemplate.convertAndSendToUser(userEmail, destination, payload, headers);
+    }
+
+    /**
+     * Notifications of the user's personal stream and of the requested cases sent after the
+     * given sequences. Cases the user has no access to are skipped.
+     */
+    public NotificationReplay replay(String userEmail, NotificationReplayRequest request) {
+        List<ReplayedNotification> notifications = new ArrayList<>();
+        boolean userResync = !collect(userStream(userEmail), request.getUserSequence(), notifications);
+
+        List<String> resyncCases = new ArrayList<>();
+        if (request.getCaseSequences() != null) {
+            request.getCaseSequences().forEach((caseNumber, after) -> {
+                if (!caseAudienceCache.members(caseNumber).contains(userEmail)) {
+                    log.warn("Replay of case {} skipped for {} without access", caseNumber, userEmail);
+                    return;
+                }
+                if (!collect(caseStream(caseNumber), after, notifications)) {
+                    resyncCases.add(caseNumber);
+                }
+            });
+        }
+
+        log.info("Replayed {} notifications to {}, resync: user={}, cases={}",
+                notifications.size(), userEmail, userResync, resyncCases);
+        return NotificationReplay.builder()
+                .notifications(notifications)
+                .userResync(userResync)
+                .resyncCases(resyncCases)
+                .build();
+    }
+
+    private Map<String, Object> record(String stream, String destination, Object payload) {
+        try {
+            String entry = objectMapper.writeValueAsString(new UnsequencedEntry(destination,
+                    objectMapper.writeValueAsString(payload)));
+            Long sequence = redisTemplate.execute(RECORD_SCRIPT,
+                    List.of(SEQUENCE_PREFIX + stream, BUFFER_PREFIX + stream),
+                    entry, String.valueOf(capacity), String.valueOf(ttl.toMillis()));
+            return Map.of(STREAM_HEADER, stream, SEQUENCE_HEADER, sequence);
+        } catch (Exception e) {
+            log.warn("Notification for {} sent without replay sequence: {}", stream, e.getMessage());
+            return Map.of(STREAM_HEADER, stream);
+        }
+    }
+
+    /**
+     * Adds the notifications of {@code stream} after {@code after} up to the latest buffered
+     * one to {@code target}; {@code false} when the buffer does not hold all of them. The
+     * sequence counter is consulted only when the buffer has expired.
+     */
+    private boolean collect(String stream, Long after, List<ReplayedNotification> target) {
+        long from = after != null ? after : 0;
+        try {
+            List<String> entries = redisTemplate.opsForList().range(BUFFER_PREFIX + stream, 0, -1);
+            List<Entry> missed = new ArrayList<>();
+            long latest = 0;
+            for (String raw : entries != null ? entries : List.<String>of()) {
+                Entry entry = objectMapper.readValue(raw, Entry.class);
+                latest = Math.max(latest, entry.sequence());
+                if (entry.sequence() > from) missed.add(entry);
+            }
+            if (latest == 0) {
+                String stored = redisTemplate.opsForValue().get(SEQUENCE_PREFIX + stream);
+                latest = stored != null ? Long.parseLong(stored) : 0;
+            }
+            if (latest == from) return true;
+            if (latest < from || missed.size() != latest - from) return false;
+
+            missed.sort(Comparator.comparingLong(Entry::sequence));
+            missed.forEach(entry -> target.add(ReplayedNotification.builder()
+                    .stream(stream)
+                    .sequence(entry.sequence())
+                    .destination(entry.destination())
+                    .payload(entry.payload())
+                    .build()));
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to replay notifications of {}: {}", stream, e.getMessage());
+            return false;
+        }
+    }
+
+    private static String caseStream(String caseNumber) {
+        return "case:" + caseNumber;
+    }
+
+    private static String userStream(String userEmail) {
+        return "user:" + userEmail;
+    }
+
+    record Entry(long sequence, String destination, String payload) {}
+
+    record UnsequencedEntry(String destination, String payload) {}
+}
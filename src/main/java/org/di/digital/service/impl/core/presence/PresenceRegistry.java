@@ -0,0 +1,180 @@
+package org.di.digital.service.impl.core.presence;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.di.digital.repository.user.UserRepository;
+import org.di.digital.service.impl.core.notification.CaseAudienceCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Who is online, kept in memory: WebSocket session counts per user on this node, plus
+ * the last time each user was seen (authenticated HTTP request, WebSocket connect or
+ * disconnect). Last-seen times are written to {@code users.last_seen_at} in periodic
+ * batches instead of on every request.
+ * <p>
+ * With {@code presence.redis.enabled} each node also publishes its connected users to a
+ * Redis hash per user ({@code presence:user:<email>}, field = node id, value = expiry of
+ * the node's claim), refreshed on every heartbeat, so presence is shared across nodes and
+ * claims of a crashed node expire on their own.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceRegistry {
+
+    private static final String USER_PREFIX = "presence:user:";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final UserRepository userRepository;
+    private final CaseAudienceCache caseAudienceCache;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${presence.redis.enabled:false}")
+    private boolean redisEnabled;
+
+    @Value("${presence.redis.claim-ttl:90s}")
+    private Duration claimTtl;
+
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+    private final Map<String, Integer> sessionCounts = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> lastSeen = new ConcurrentHashMap<>();
+    private final Map<String, LocalDateTime> unsaved = new ConcurrentHashMap<>();
+
+    public void sessionConnected(String sessionId, String email) {
+        if (sessionId == null || email == null || sessionUsers.putIfAbsent(sessionId, email) != null) return;
+        touch(email);
+        // claim and release run inside compute, so they apply in the order the count changed
+        sessionCounts.compute(email, (key, count) -> {
+            if (count == null) claim(key);
+            return count == null ? 1 : count + 1;
+        });
+    }
+
+    public void sessionDisconnected(String sessionId) {
+        String email = sessionId != null ? sessionUsers.remove(sessionId) : null;
+        if (email == null) return;
+        touch(email);
+        sessionCounts.computeIfPresent(email, (key, count) -> {
+            if (count > 1) return count - 1;
+            release(key);
+            return null;
+        });
+    }
+
+    /**
+     * Records activity of {@code email}; persisted with the next batch.
+     */
+    public void touch(String email) {
+        LocalDateTime now = LocalDateTime.now();
+        lastSeen.put(email, now);
+        unsaved.put(email, now);
+    }
+
+    /**
+     * {@code true} while the user has a WebSocket session on any node.
+     */
+    public boolean isOnline(String email) {
+        if (sessionCounts.containsKey(email)) return true;
+        return redisEnabled && hasRemoteClaim(email);
+    }
+
+    /**
+     * Connected members of the case, answered from the cached case audience and the
+     * in-memory session counts.
+     */
+    public Set<String> onlineMembers(String caseNumber) {
+        Set<String> online = new LinkedHashSet<>();
+        for (String email : caseAudienceCache.members(caseNumber)) {
+            if (isOnline(email)) online.add(email);
+        }
+        return online;
+    }
+
+    /**
+     * The later of {@code persisted} and the last activity seen by this node.
+     */
+    public LocalDateTime lastSeen(String email, LocalDateTime persisted) {
+        LocalDateTime recent = lastSeen.get(email);
+        if (recent == null) return persisted;
+        return persisted == null || recent.isAfter(persisted) ? recent : persisted;
+    }
+
+    @Scheduled(fixedDelayString = "${presence.last-seen.flush-interval-ms:60000}")
+    @Transactional
+    public void flushLastSeen() {
+        if (unsaved.isEmpty()) return;
+        Map<String, LocalDateTime> batch = new HashMap<>();
+        for (String email : Set.copyOf(unsaved.keySet())) {
+            LocalDateTime time = unsaved.remove(email);
+            if (time != null) batch.put(email, time);
+        }
+        batch.forEach(userRepository::updateLastSeen);
+        // what was persisted a batch ago is in the database now; connected users stay
+        lastSeen.keySet().removeIf(email -> !sessionCounts.containsKey(email) && !unsaved.containsKey(email)
+                && !batch.containsKey(email));
+        log.debug("Persisted last-seen of {} users", batch.size());
+    }
+
+    @Scheduled(fixedDelayString = "${presence.redis.heartbeat-ms:30000}")
+    public void heartbeat() {
+        if (!redisEnabled) return;
+        sessionCounts.keySet().forEach(email -> sessionCounts.computeIfPresent(email, (key, count) -> {
+            claim(key);
+            return count;
+        }));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushLastSeen();
+        if (redisEnabled) {
+            sessionCounts.keySet().forEach(this::release);
+        }
+    }
+
+    private void claim(String email) {
+        if (!redisEnabled) return;
+        try {
+            String key = USER_PREFIX + email;
+            redisTemplate.opsForHash().put(key, nodeId,
+                    String.valueOf(System.currentTimeMillis() + claimTtl.toMillis()));
+            redisTemplate.expire(key, claimTtl);
+        } catch (Exception e) {
+            log.warn("Failed to publish presence of {}: {}", email, e.getMessage());
+        }
+    }
+
+    private void release(String email) {
+        if (!redisEnabled) return;
+        try {
+            redisTemplate.opsForHash().delete(USER_PREFIX + email, nodeId);
+        } catch (Exception e) {
+            log.warn("Failed to withdraw presence of {}: {}", email, e.getMessage());
+        }
+    }
+
+    private boolean hasRemoteClaim(String email) {
+        try {
+            long now = System.currentTimeMillis();
+            return redisTemplate.opsForHash().values(USER_PREFIX + email).stream()
+                    .anyMatch(expiresAt -> Long.parseLong(String.valueOf(expiresAt)) > now);
+        } catch (Exception e) {
+            log.warn("Failed to read presence of {}: {}", email, e.getMessage());
+            return false;
+        }
+    }
+}
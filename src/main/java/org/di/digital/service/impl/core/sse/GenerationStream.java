@@ -0,0 +1,346 @@
+package org.di.digital.service.impl.core.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Producer side of a long-running generation. Generation code writes to it exactly like
+ * to a regular {@link SseEmitter}; every event gets a sequential id, is kept in a bounded
+ * replay buffer and is forwarded to all attached client emitters. Clients may detach and
+ * re-attach with {@code Last-Event-ID} while the generation keeps running.
+ * <p>
+ * Events are buffered under the stream lock and delivered outside it: every client has
+ * its own virtual thread that drains the buffer in order, so a slow client delays
+ * neither the producer nor the other clients. A client that falls further behind than
+ * the buffer holds is detached and can resume with {@code Last-Event-ID}.
+ * <p>
+ * When the last client has been gone for {@code detachGraceMs} the stream is cancelled:
+ * callbacks registered through {@link #onError} receive a {@link CancellationException}
+ * and completion callbacks run, which lets producers abort their upstream model call.
+ * <p>
+ * Instances are never returned to Spring MVC directly; see {@link GenerationStreamRegistry}.
+ */
+@Slf4j
+public class GenerationStream extends SseEmitter {
+
+    private static final long CLIENT_RETRY_MS = 500;
+    private static final Executor FANOUT =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-fanout-", 0).factory());
+
+    private final String key;
+    private final int capacity;
+    private final long detachGraceMs;
+    private final Runnable onCancelled;
+    private final long startedAt = System.currentTimeMillis();
+
+    // guards the buffer and the stream state; never held while sending to a client
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<BufferedEvent> buffer = new ArrayDeque<>();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+    private final List<Consumer<Throwable>> errorCallbacks = new CopyOnWriteArrayList<>();
+
+    private long lastEventId;
+    private boolean finished;
+    private boolean cancelled;
+    private Throwable failure;
+    private volatile long finishedAt;
+
+    GenerationStream(String key, int capacity, long detachGraceMs, Runnable onCancelled) {
+        super(0L);
+        this.key = key;
+        this.capacity = capacity;
+        this.detachGraceMs = detachGraceMs;
+        this.onCancelled = onCancelled;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        lock.lock();
+        try {
+            if (finished) {
+                throw new IllegalStateException("Generation stream already finished: " + key);
+            }
+            long id = ++lastEventId;
+            Set<DataWithMediaType> items = new LinkedHashSet<>();
+            items.add(new DataWithMediaType("id:" + id + "\n", MediaType.TEXT_PLAIN));
+            items.addAll(builder.build());
+
+            buffer.addLast(new BufferedEvent(id, items));
+            if (buffer.size() > capacity) {
+                buffer.removeFirst();
+            }
+        } finally {
+            lock.unlock();
+        }
+        subscribers.forEach(this::scheduleDrain);
+    }
+
+    @Override
+    public void complete() {
+        finish(null);
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+        finish(ex);
+    }
+
+    private void finish(Throwable ex) {
+        lock.lock();
+        try {
+            if (finished) return;
+            finished = true;
+            failure = ex;
+            finishedAt = System.currentTimeMillis();
+        } finally {
+            lock.unlock();
+        }
+        // each client is completed by its drain once it has received the buffered events
+        subscribers.forEach(this::scheduleDrain);
+        completionCallbacks.forEach(Runnable::run);
+    }
+
+    @Override
+    public void onCompletion(Runnable callback) {
+        completionCallbacks.add(callback);
+    }
+
+    @Override
+    public void onTimeout(Runnable callback) {
+        // generation streams have no timeout of their own; client emitters time out individually
+    }
+
+    /**
+     * Registers a callback invoked with a {@link CancellationException} when every client
+     * has left and the generation is abandoned. Runs immediately if that already happened.
+     */
+    @Override
+    public void onError(Consumer<Throwable> callback) {
+        boolean alreadyCancelled;
+        lock.lock();
+        try {
+            alreadyCancelled = cancelled;
+            if (!alreadyCancelled) {
+                errorCallbacks.add(callback);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (alreadyCancelled) {
+            callback.accept(new CancellationException("Generation cancelled: " + key));
+        }
+    }
+
+    /**
+     * Runs generation code and finishes the stream with an error if it throws, so clients
+     * never stay attached to a generation that died before completing.
+     */
+    public void runGuarded(Runnable body) {
+        try {
+            body.run();
+        } catch (RuntimeException e) {
+            log.error("Generation {} failed: {}", key, e.getMessage(), e);
+            completeWithError(e);
+        }
+    }
+
+    /**
+     * Attaches {@code emitter}, which then receives every buffered event newer than
+     * {@code afterEventId} followed by live events, and is completed once the generation
+     * has finished.
+     */
+    void attach(SseEmitter emitter, long afterEventId) {
+        try {
+            emitter.send(SseEmitter.event().reconnectTime(CLIENT_RETRY_MS));
+        } catch (Exception e) {
+            return;
+        }
+
+        Subscriber subscriber;
+        lock.lock();
+        try {
+            // events already trimmed from the buffer are skipped, not treated as lag
+            long oldest = buffer.isEmpty() ? lastEventId + 1 : buffer.peekFirst().id();
+            subscriber = new Subscriber(emitter, Math.max(afterEventId, oldest - 1));
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        emitter.onCompletion(() -> detach(subscriber));
+        emitter.onTimeout(() -> detach(subscriber));
+        emitter.onError(e -> detach(subscriber));
+        scheduleDrain(subscriber);
+    }
+
+    boolean isFinished() {
+        lock.lock();
+        try {
+            return finished;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isCancelled() {
+        lock.lock();
+        try {
+            return cancelled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getStartedAt() {
+        return startedAt;
+    }
+
+    long getFinishedAt() {
+        return finishedAt;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.get()) {
+            FANOUT.execute(() -> drain(subscriber));
+        }
+    }
+
+    /**
+     * Sends the subscriber every buffered event it has not received yet, in order, and
+     * completes it once the generation has finished. Only one drain per subscriber runs at
+     * a time; events that arrive meanwhile are picked up by the running one.
+     */
+    private void drain(Subscriber subscriber) {
+        while (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                if (!drainOnce(subscriber)) return;
+            } finally {
+                subscriber.draining.set(false);
+            }
+            lock.lock();
+            try {
+                if (subscriber.closed || (lastEventId <= subscriber.delivered && !finished)) return;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // false once the subscriber is closed
+    private boolean drainOnce(Subscriber subscriber) {
+        while (true) {
+            List<BufferedEvent> pending = new ArrayList<>();
+            boolean lagging;
+            boolean done;
+            Throwable error;
+            lock.lock();
+            try {
+                if (subscriber.closed) return false;
+                for (BufferedEvent event : buffer) {
+                    if (event.id() > subscriber.delivered) pending.add(event);
+                }
+                lagging = !pending.isEmpty() && pending.getFirst().id() > subscriber.delivered + 1;
+                done = !lagging && pending.isEmpty() && finished;
+                error = failure;
+                if (done) {
+                    subscriber.closed = true;
+                    subscribers.remove(subscriber);
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (lagging) {
+                log.warn("SSE subscriber of {} fell behind the replay buffer, detaching", key);
+                detach(subscriber);
+                subscriber.emitter.completeWithError(new IllegalStateException("Subscriber too slow"));
+                return false;
+            }
+            if (done) {
+                if (error != null) {
+                    subscriber.emitter.completeWithError(error);
+                } else {
+                    subscriber.emitter.complete();
+                }
+                return false;
+            }
+            if (pending.isEmpty()) return true;
+
+            for (BufferedEvent event : pending) {
+                if (!deliver(subscriber, event.items())) return false;
+                subscriber.delivered = event.id();
+            }
+        }
+    }
+
+    private boolean deliver(Subscriber subscriber, Set<DataWithMediaType> items) {
+        try {
+            subscriber.emitter.send(items);
+            return true;
+        } catch (Exception e) {
+            log.debug("Detached SSE subscriber from {}: {}", key, e.getMessage());
+            detach(subscriber);
+            return false;
+        }
+    }
+
+    private void detach(Subscriber subscriber) {
+        subscriber.closed = true;
+        if (!subscribers.remove(subscriber) || !subscribers.isEmpty()) return;
+        Schedulers.parallel().schedule(this::cancelIfAbandoned, detachGraceMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void cancelIfAbandoned() {
+        lock.lock();
+        try {
+            if (finished || !subscribers.isEmpty()) return;
+            finished = true;
+            cancelled = true;
+            failure = new CancellationException("Generation cancelled: " + key);
+            finishedAt = System.currentTimeMillis();
+        } finally {
+            lock.unlock();
+        }
+        log.info("All clients left generation {}, cancelling upstream call", key);
+        onCancelled.run();
+        errorCallbacks.forEach(callback -> callback.accept(failure));
+        completionCallbacks.forEach(Runnable::run);
+    }
+
+    private record BufferedEvent(long id, Set<DataWithMediaType> items) {}
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // written only by the drain that holds draining
+        private volatile long delivered;
+        private volatile boolean closed;
+
+        private Subscriber(SseEmitter emitter, long delivered) {
+            this.emitter = emitter;
+            this.delivered = delivered;
+        }
+    }
+}
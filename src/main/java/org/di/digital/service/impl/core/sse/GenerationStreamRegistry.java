@@ -0,0 +1,143 @@
+package org.di.digital.service.impl.core.sse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks running and recently finished {@link GenerationStream}s by key so that a client
+ * reconnecting to the same generation is attached to it instead of starting a new model
+ * run. Finished streams are kept for {@code sse.replay.retention-seconds} to let late
+ * reconnects pick up the final result.
+ * <p>
+ * Keys identify the generation, not the requester (see {@link #key}), so identical
+ * requests from several users or a double click share one upstream call: later requests
+ * join the running stream and get a replay of everything produced so far. Callers whose
+ * model request carries the user put the user into the key, and audit joins through the
+ * {@code onJoin} callback, since the starter only runs for the first requester.
+ * <p>
+ * A stream whose clients have all disconnected for longer than
+ * {@code sse.replay.detach-grace-ms} is cancelled and counted in
+ * {@code ai.generation.cancelled}; it is never reused, a later request starts afresh.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GenerationStreamRegistry {
+
+    private final SseHeartbeatUtil heartbeatUtil;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, GenerationStream> streams = new ConcurrentHashMap<>();
+
+    @Value("${sse.replay.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${sse.replay.retention-seconds:300}")
+    private long retentionSeconds;
+
+    @Value("${sse.replay.detach-grace-ms:1000}")
+    private long detachGraceMs;
+
+    /**
+     * Returns a client emitter for the generation identified by {@code key}. If that
+     * generation is still running, or finished recently and the client sends a
+     * {@code Last-Event-ID}, the emitter is attached to it and receives the missed events.
+     * Otherwise a new stream is registered and handed to {@code starter} to produce into,
+     * and {@code onJoin} is not called.
+     */
+    public SseEmitter open(String key, String context, long timeoutMs, String lastEventId,
+                           Consumer<GenerationStream> starter, Runnable onJoin) {
+        SseEmitter subscriber = new SseEmitter(timeoutMs);
+        heartbeatUtil.startHeartbeat(subscriber, context);
+
+        long afterEventId = parseEventId(lastEventId);
+        GenerationStream[] created = new GenerationStream[1];
+
+        GenerationStream stream = streams.compute(key, (k, existing) -> {
+            if (existing != null && isReusable(existing, timeoutMs, lastEventId != null)) {
+                return existing;
+            }
+            created[0] = new GenerationStream(k, bufferSize, detachGraceMs, () -> countCancelled(k));
+            return created[0];
+        });
+
+        if (created[0] != null) {
+            log.info("Starting generation {}", key);
+            stream.attach(subscriber, afterEventId);
+            starter.accept(stream);
+        } else {
+            log.info("Attaching client to in-flight generation {} after event {}", key, afterEventId);
+            stream.attach(subscriber, afterEventId);
+            onJoin.run();
+        }
+        return subscriber;
+    }
+
+    /**
+     * Builds a single-flight key from the generation type, the case and every input that
+     * influences the model output.
+     */
+    public static String key(String type, String caseNumber, Object... inputs) {
+        String joined = Arrays.stream(inputs)
+                .map(String::valueOf)
+                .collect(Collectors.joining("\u0000"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return type + ":" + caseNumber + ":" + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60, timeUnit = TimeUnit.SECONDS)
+    public void evictFinished() {
+        long cutoff = System.currentTimeMillis() - TimeUnit.SECONDS.toMillis(retentionSeconds);
+        streams.values().removeIf(stream -> stream.isFinished() && stream.getFinishedAt() < cutoff);
+    }
+
+    private boolean isReusable(GenerationStream stream, long timeoutMs, boolean resuming) {
+        if (stream.isCancelled()) {
+            return false;
+        }
+        if (!stream.isFinished()) {
+            long maxAgeMs = timeoutMs > 0 ? timeoutMs : TimeUnit.HOURS.toMillis(1);
+            return System.currentTimeMillis() - stream.getStartedAt() < maxAgeMs;
+        }
+        return resuming
+                && System.currentTimeMillis() - stream.getFinishedAt() < TimeUnit.SECONDS.toMillis(retentionSeconds);
+    }
+
+    private void countCancelled(String key) {
+        Counter.builder("ai.generation.cancelled")
+                .description("Generations aborted because every client disconnected")
+                .tag("type", key.substring(0, key.indexOf(':')))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) return 0L;
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+}
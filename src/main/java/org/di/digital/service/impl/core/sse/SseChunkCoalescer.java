@@ -0,0 +1,69 @@
+package org.di.digital.service.impl.core.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batches streamed text into fewer SSE events. The first chunk goes out immediately so
+ * the user sees output without delay; later chunks are buffered until either
+ * {@code windowMs} has passed since the first buffered chunk or the buffer reaches
+ * {@code maxChars}, whichever comes first. One instance per stream.
+ */
+@Slf4j
+public class SseChunkCoalescer {
+
+    private final SseEmitter emitter;
+    private final long windowMs;
+    private final int maxChars;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private boolean firstSent;
+    private Disposable pendingFlush;
+
+    public SseChunkCoalescer(SseEmitter emitter, long windowMs, int maxChars) {
+        this.emitter = emitter;
+        this.windowMs = windowMs;
+        this.maxChars = maxChars;
+    }
+
+    public synchronized void append(String text) throws IOException {
+        if (!firstSent || windowMs <= 0) {
+            firstSent = true;
+            emitter.send(SseEmitter.event().data(text));
+            return;
+        }
+
+        buffer.append(text);
+        if (buffer.length() >= maxChars) {
+            flush();
+        } else if (pendingFlush == null) {
+            pendingFlush = Schedulers.parallel().schedule(this::flushOnTimer, windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void flush() throws IOException {
+        if (pendingFlush != null) {
+            pendingFlush.dispose();
+            pendingFlush = null;
+        }
+        if (buffer.isEmpty()) return;
+
+        String data = buffer.toString();
+        buffer.setLength(0);
+        emitter.send(SseEmitter.event().data(data));
+    }
+
+    private synchronized void flushOnTimer() {
+        pendingFlush = null;
+        try {
+            flush();
+        } catch (Exception e) {
+            log.debug("Failed to flush coalesced SSE chunk: {}", e.getMessage());
+        }
+    }
+}
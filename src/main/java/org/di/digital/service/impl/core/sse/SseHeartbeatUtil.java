@@ -1,43 +1,119 @@
 package org.di.digital.service.impl.core.sse;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.executor.WorkloadExecutors;
+import org.di.digital.config.executor.WorkloadExecutors.Workload;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Keeps idle SSE connections alive with comment events. All live emitters share one
+ * timer thread: each tick walks the registry and only pings emitters that have been
+ * silent for {@link #IDLE_BEFORE_HEARTBEAT_MS}. The sends themselves run on virtual
+ * threads, so one slow client cannot stall the heartbeats of the others; an emitter whose
+ * previous heartbeat is still being sent is skipped. Emitters leave the registry on
+ * completion, timeout, error or a failed heartbeat.
+ */
 @Slf4j
 @Component
 public class SseHeartbeatUtil {
 
-    private static final ScheduledExecutorService SCHEDULER =
-            Executors.newScheduledThreadPool(4);
+    private static final long TICK_SECONDS = 5;
+    private static final long IDLE_BEFORE_HEARTBEAT_MS = TimeUnit.SECONDS.toMillis(20);
 
-    public ScheduledFuture<?> startHeartbeat(SseEmitter emitter, String context) {
-        ScheduledFuture<?> future = SCHEDULER.scheduleAtFixedRate(() -> {
-            try {
-                emitter.send(SseEmitter.event().comment("heartbeat").build());
-            } catch (Exception ignored) {
-            }
-        }, 15, 25, TimeUnit.SECONDS);
+    private final Map<SseEmitter, Registration> registry = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "sse-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Executor sender;
+
+    public SseHeartbeatUtil(WorkloadExecutors workloadExecutors) {
+        this.sender = workloadExecutors.executor(Workload.HEARTBEAT);
+        scheduler.scheduleAtFixedRate(this::tick, TICK_SECONDS, TICK_SECONDS, TimeUnit.SECONDS);
+    }
+
+    public void startHeartbeat(SseEmitter emitter, String context) {
+        registry.put(emitter, new Registration(context, System.currentTimeMillis()));
 
         emitter.onCompletion(() -> {
-            future.cancel(true);
+            registry.remove(emitter);
             log.info("SSE completed: {}", context);
         });
         emitter.onTimeout(() -> {
-            future.cancel(true);
+            registry.remove(emitter);
             log.warn("SSE timed out: {}", context);
             emitter.complete();
         });
         emitter.onError(e -> {
-            future.cancel(true);
+            registry.remove(emitter);
             log.error("SSE error: {}", context, e);
         });
+    }
+
+    /**
+     * Records that data was just sent on {@code emitter}, postponing its next heartbeat.
+     */
+    public void touch(SseEmitter emitter) {
+        Registration registration = registry.get(emitter);
+        if (registration != null) {
+            registration.lastSentAt = System.currentTimeMillis();
+        }
+    }
+
+    public int activeCount() {
+        return registry.size();
+    }
+
+    private void tick() {
+        long now = System.currentTimeMillis();
+        try {
+            registry.forEach((emitter, registration) -> {
+                if (now - registration.lastSentAt < IDLE_BEFORE_HEARTBEAT_MS) return;
+                if (!registration.sending.compareAndSet(false, true)) return;
+                sender.execute(() -> heartbeat(emitter, registration, now));
+            });
+        } catch (Exception e) {
+            log.error("SSE heartbeat tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void heartbeat(SseEmitter emitter, Registration registration, long now) {
+        try {
+            emitter.send(SseEmitter.event().comment("heartbeat").build());
+            registration.lastSentAt = now;
+        } catch (Exception e) {
+            registry.remove(emitter);
+            log.debug("Dropped dead SSE emitter: {}", registration.context);
+        } finally {
+            registration.sending.set(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private static final class Registration {
+        private final String context;
+        private volatile long lastSentAt;
+        private final AtomicBoolean sending = new AtomicBoolean();
 
-        return future;
+        private Registration(String context, long lastSentAt) {
+            this.context = context;
+            this.lastSentAt = lastSentAt;
+        }
     }
 }
@@ -3,6 +3,11 @@ package org.di.digital.service.impl.indictment;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.executor.WorkloadExecutors;
+import org.di.digital.config.executor.WorkloadExecutors.Workload;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiCallMetrics;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.request.indictment.IndictmentRephraseApplyRequest;
 import org.di.digital.dto.request.indictment.IndictmentSectionUpdateRequest;
 import org.di.digital.dto.response.indictment.IndictmentSectionDto;
@@ -24,7 +29,8 @@ import org.di.digital.service.*;
 import org.di.digital.service.cases.CaseService;
 import org.di.digital.service.core.StreamingService;
 import org.di.digital.service.export.DocumentFormatterService;
-import org.di.digital.service.impl.core.sse.SseHeartbeatUtil;
+import org.di.digital.service.impl.core.sse.GenerationStream;
+import org.di.digital.service.impl.core.sse.GenerationStreamRegistry;
 import org.di.digital.service.indictment.IndictmentService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
@@ -34,15 +40,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.di.digital.util.requests.RequestBodyBuilder.*;
@@ -63,11 +66,11 @@ public class IndictmentServiceImpl implements IndictmentService {
     private final StreamingService streamingService;
     private final LogService logService;
     private final UserRepository userRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final IndictmentWriter indictmentWriter;
 
-    private final SseHeartbeatUtil heartbeatUtil;
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final GenerationStreamRegistry generationStreams;
+    private final WorkloadExecutors workloadExecutors;
 
     @Value("${model.host}")
     private String pythonHost;
@@ -78,73 +81,66 @@ public class IndictmentServiceImpl implements IndictmentService {
     // ---------- public API ----------
 
     @Override
-    public SseEmitter generateIndictment(String caseNumber, String email) {
-        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(10));
-        heartbeatUtil.startHeartbeat(emitter, "indictment-" + caseNumber);
-
-        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-        executor.execute(() -> {
-            RequestContextHolder.setRequestAttributes(attrs);
-            try {
-                streamIndictment(caseNumber, emitter, email);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-        return emitter;
+    public SseEmitter generateIndictment(String caseNumber, String email, String lastEventId) {
+        return generationStreams.open(
+                GenerationStreamRegistry.key("indictment", caseNumber, email),
+                "indictment-" + caseNumber,
+                TimeUnit.MINUTES.toMillis(10), lastEventId,
+                stream -> runAsync(() -> streamIndictment(caseNumber, stream, email), stream),
+                () -> logJoined("indictment", LogAction.INDICTMENT, caseNumber, email));
     }
 
     @Override
-    public SseEmitter completeIndictment(String caseNumber, String email) {
-        SseEmitter emitter = new SseEmitter(0L);
-        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-
-        executor.execute(() -> {
-            RequestContextHolder.setRequestAttributes(attrs);
-            try {
-                completeIndictment(caseNumber, emitter, email, attrs);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-        return emitter;
+    public SseEmitter completeIndictment(String caseNumber, String email, String lastEventId) {
+        return generationStreams.open(
+                GenerationStreamRegistry.key("indictment-complete", caseNumber, email),
+                "indictment-complete-" + caseNumber,
+                0L, lastEventId,
+                stream -> {
+                    RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+                    runAsync(() -> completeIndictment(caseNumber, stream, email, attrs), stream);
+                },
+                () -> logJoined("final indictment", LogAction.INDICTMENT_FINAL, caseNumber, email));
     }
 
     @Override
-    public SseEmitter generateIndictmentSection(String caseNumber, String email, int sectionId) {
-        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(10));
-        heartbeatUtil.startHeartbeat(emitter, "indictment-section-" + caseNumber + "-" + sectionId);
-
-        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-        executor.execute(() -> {
-            RequestContextHolder.setRequestAttributes(attrs);
-            try {
-                streamIndictmentSection(caseNumber, emitter, email, sectionId);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-        return emitter;
+    public SseEmitter generateIndictmentSection(String caseNumber, String email, int sectionId,
+                                                String lastEventId) {
+        return generationStreams.open(
+                GenerationStreamRegistry.key("indictment-section", caseNumber, email, sectionId),
+                "indictment-section-" + caseNumber + "-" + sectionId,
+                TimeUnit.MINUTES.toMillis(10), lastEventId,
+                stream -> runAsync(() -> streamIndictmentSection(caseNumber, stream, email, sectionId), stream),
+                () -> logJoined("indictment section", LogAction.INDICTMENT, caseNumber, email));
     }
 
     @Override
     public SseEmitter generateIndictmentPrompt(String caseNumber, String email,
                                                int startSectionId, int startOffset,
-                                               int endSectionId, int endOffset, String prompt) {
-        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(10));
-        heartbeatUtil.startHeartbeat(emitter, "indictment-prompt-" + caseNumber);
+                                               int endSectionId, int endOffset, String prompt,
+                                               String lastEventId) {
+        return generationStreams.open(
+                GenerationStreamRegistry.key("indictment-prompt", caseNumber,
+                        startSectionId, startOffset, endSectionId, endOffset, prompt),
+                "indictment-prompt-" + caseNumber,
+                TimeUnit.MINUTES.toMillis(10), lastEventId,
+                stream -> runAsync(() -> streamIndictmentPrompt(caseNumber, stream, email,
+                        startSectionId, startOffset, endSectionId, endOffset, prompt), stream),
+                () -> logJoined("indictment prompt", LogAction.INDICTMENT, caseNumber, email));
+    }
 
-        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-        executor.execute(() -> {
-            RequestContextHolder.setRequestAttributes(attrs);
-            try {
-                streamIndictmentPrompt(caseNumber, emitter, email,
-                        startSectionId, startOffset, endSectionId, endOffset, prompt);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-        return emitter;
+    // indictment and section requests send user_id to the model, so their keys include the
+    // user and joins come from the same user (double click, reconnect); the prompt request
+    // carries no user and is shared. Only the first requester reaches the audit in the run.
+    private void logJoined(String generation, LogAction action, String caseNumber, String email) {
+        logService.log(String.format("Joining running %s generation by %s user in case %s",
+                        generation, email, caseNumber),
+                LogLevel.INFO, action, caseNumber, email);
+    }
+
+    private void runAsync(Runnable body, GenerationStream stream) {
+        // the stream reports abandonment through onError, which interrupts the blocked model call
+        workloadExecutors.submit(Workload.GENERATION, stream, () -> stream.runGuarded(body));
     }
 
     // ---------- streaming ----------
@@ -177,9 +173,10 @@ public class IndictmentServiceImpl implements IndictmentService {
         }
 
         try {
-            String responseJson = webClientBuilder.build()
+            String responseJson = webClients.get(AiBackend.INDICTMENT)
                     .post()
                     .uri(indictmentUrl(pythonHost, pythonPort))
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "indictment")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(indictmentBody(caseNumber, entity.getQualificationsUploaded(),
                             user.getId(), false, language))
@@ -250,6 +247,8 @@ public class IndictmentServiceImpl implements IndictmentService {
         }
 
         streamingService.stream(
+                AiBackend.INDICTMENT,
+                "indictment-final",
                 indictmentUrl(pythonHost, pythonPort),
                 indictmentBody(caseNumber, entity.getQualificationsUploaded(), user.getId(), true, language),
                 emitter,
@@ -296,9 +295,10 @@ public class IndictmentServiceImpl implements IndictmentService {
         }
 
         try {
-            String responseJson = webClientBuilder.build()
+            String responseJson = webClients.get(AiBackend.INDICTMENT)
                     .post()
                     .uri(indictmentSectionUrl(pythonHost, pythonPort))
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "indictment-section")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(indictmentSectionBody(caseNumber, entity.getQualificationsUploaded(),
                             user.getId(), false, entity.getLanguage(), sectionId))
@@ -353,9 +353,10 @@ public class IndictmentServiceImpl implements IndictmentService {
         }
 
         try {
-            String responseJson = webClientBuilder.build()
+            String responseJson = webClients.get(AiBackend.INDICTMENT)
                     .post()
                     .uri(indictmentPromptUrl(pythonHost, pythonPort))
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "indictment-prompt")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(indictmentPromptBody(caseNumber, context, prompt, entity.getLanguage()))
                     .retrieve()
@@ -2,6 +2,11 @@ package org.di.digital.service.impl.interrogation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.executor.WorkloadExecutors;
+import org.di.digital.config.executor.WorkloadExecutors.Workload;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiCallMetrics;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.request.cases.ChatRequest;
 import org.di.digital.dto.response.cases.QueryResponse;
 import org.di.digital.dto.response.chat.CaseChatHistoryResponse;
@@ -27,19 +32,16 @@ import org.di.digital.repository.user.UserRepository;
 import org.di.digital.service.LogService;
 import org.di.digital.service.interrogation.CaseInterrogationChatService;
 import org.di.digital.util.requests.UserUtil;
+import org.di.digital.service.impl.core.cache.AiAnswerCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 import static org.di.digital.util.requests.RequestBodyBuilder.generalChatBody;
 import static org.di.digital.util.requests.RequestBodyBuilder.interrogationContradictionBody;
@@ -61,7 +63,9 @@ public class CaseInterrogationChatServiceImpl implements CaseInterrogationChatSe
     private final InterrogationQuestionsWriter questionsWriter;
     private final CaseInterrogationContradictionWriter contradictionWriter;
     private final CaseInterrogationContradictionRepository contradictionRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
+    private final WorkloadExecutors workloadExecutors;
+    private final AiAnswerCache answerCache;
     private final UserUtil userUtil;
 
     @Value("${model.host}")
@@ -91,9 +95,10 @@ public class CaseInterrogationChatServiceImpl implements CaseInterrogationChatSe
         }
 
         try {
-            InterrogationQuestionsResponse response = webClientBuilder.build()
+            InterrogationQuestionsResponse response = webClients.get(AiBackend.INTERROGATION)
                     .post()
                     .uri(interrogationQuestionsUrl(pythonHost, interrogationChatPort, prep.caseNumber()))
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "interrogation-questions")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(prep.requestBody())
                     .retrieve()
@@ -149,19 +154,20 @@ public class CaseInterrogationChatServiceImpl implements CaseInterrogationChatSe
         final Long messageId = prep.messageId();
         final String caseNumber = prep.caseNumber();
 
-        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
-
-        CompletableFuture.runAsync(() -> {
-            RequestContextHolder.setRequestAttributes(requestAttributes);
+        workloadExecutors.submit(Workload.INTERROGATION, emitter, () -> {
             try {
-                QueryResponse response = webClientBuilder.build()
-                        .post()
-                        .uri(qualificationChatUrl(pythonHost, chatPort, caseNumber))
-                        .contentType(MediaType.APPLICATION_JSON)
-                        .bodyValue(generalChatBody(request.getQuestion()))
-                        .retrieve()
-                        .bodyToMono(QueryResponse.class)
-                        .block();
+                // same model endpoint and body as the case chat, so both share cached answers
+                QueryResponse response = answerCache.getOrLoad("case-chat", caseNumber, QueryResponse.class,
+                        () -> webClients.get(AiBackend.QUALIFICATION)
+                                .post()
+                                .uri(qualificationChatUrl(pythonHost, chatPort, caseNumber))
+                                .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "interrogation-chat")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(generalChatBody(request.getQuestion()))
+                                .retrieve()
+                                .bodyToMono(QueryResponse.class)
+                                .block(),
+                        request.getQuestion());
 
                 if (response == null || response.getResponse() == null) {
                     throw new IllegalStateException("Пустой ответ от сервиса");
@@ -185,8 +191,6 @@ public class CaseInterrogationChatServiceImpl implements CaseInterrogationChatSe
                 interrogationChatWriter.updateAssistantMessage(
                         messageId, "[Error: " + e.getMessage() + "]", null);
                 emitter.completeWithError(e);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
             }
         });
     }
@@ -304,9 +308,10 @@ public class CaseInterrogationChatServiceImpl implements CaseInterrogationChatSe
         log.info("Contradiction request URL: {}", url);
 
         try {
-            ContradictionResponse response = webClientBuilder.build()
+            ContradictionResponse response = webClients.get(AiBackend.INTERROGATION)
                     .post()
                     .uri(url)
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "interrogation-contradiction")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(interrogationContradictionBody(prep.fio(), prep.answer(), prep.language()))                    .retrieve()
                     .bodyToMono(ContradictionResponse.class)
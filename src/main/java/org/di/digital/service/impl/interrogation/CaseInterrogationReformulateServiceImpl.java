@@ -2,20 +2,24 @@ package org.di.digital.service.impl.interrogation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.request.interrogation.CleanTranscriptRequest;
 import org.di.digital.dto.request.interrogation.MarkReformulatedRequest;
 import org.di.digital.dto.request.interrogation.ReformulateQuestionRequest;
 import org.di.digital.dto.response.interrogation.CleanTranscriptResponse;
 import org.di.digital.dto.response.interrogation.ReformulateQuestionResponse;
+import org.di.digital.exception.AiBackendBusyException;
+import org.di.digital.exception.AiBackendUnavailableException;
 import org.di.digital.model.enums.log.LogAction;
 import org.di.digital.model.enums.log.LogLevel;
 import org.di.digital.repository.interrogation.CaseInterrogationQARepository;
 import org.di.digital.service.LogService;
 import org.di.digital.service.interrogation.CaseInterrogationReformulateService;
+import org.di.digital.service.impl.core.cache.AiAnswerCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import static org.di.digital.util.requests.RequestBodyBuilder.cleanTranscriptBody;
 import static org.di.digital.util.requests.RequestBodyBuilder.interrogationReformulateQuestionBody;
@@ -27,7 +31,8 @@ import static org.di.digital.util.requests.RequestUrlBuilder.interrogationReform
 @Slf4j
 public class CaseInterrogationReformulateServiceImpl implements CaseInterrogationReformulateService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
+    private final AiAnswerCache answerCache;
     private final CaseInterrogationQARepository caseInterrogationQARepository;
     private final LogService logService;
 
@@ -40,15 +45,19 @@ public class CaseInterrogationReformulateServiceImpl implements CaseInterrogatio
     @Override
     public ReformulateQuestionResponse reformulateQuestion(ReformulateQuestionRequest request) {
         try {
-            return webClientBuilder
-                    .build()
-                    .post()
-                    .uri(interrogationReformulateUrl(aiHost, aiPort))
-                    .bodyValue(interrogationReformulateQuestionBody(request))
-                    .retrieve()
-                    .bodyToMono(ReformulateQuestionResponse.class)
-                    .block();
+            return answerCache.getOrLoad("reformulate", null, ReformulateQuestionResponse.class,
+                    () -> webClients.get(AiBackend.REFORMULATE)
+                            .post()
+                            .uri(interrogationReformulateUrl(aiHost, aiPort))
+                            .bodyValue(interrogationReformulateQuestionBody(request))
+                            .retrieve()
+                            .bodyToMono(ReformulateQuestionResponse.class)
+                            .block(),
+                    request.getQuestion(), request.getPersonRole(), request.getLanguage(),
+                    request.getStyle(), request.getMaxVariants());
 
+        } catch (AiBackendBusyException | AiBackendUnavailableException e) {
+            throw e; // 503 + Retry-After in GlobalExceptionHandler
         } catch (Exception e) {
             log.error("Failed to reformulate question", e);
 
@@ -61,14 +70,17 @@ public class CaseInterrogationReformulateServiceImpl implements CaseInterrogatio
     @Override
     public CleanTranscriptResponse cleanTranscript(CleanTranscriptRequest request) {
         try {
-            return webClientBuilder
-                    .build()
-                    .post()
-                    .uri(interrogationCleanTranscriptUrl(aiHost, aiPort))
-                    .bodyValue(cleanTranscriptBody(request))
-                    .retrieve()
-                    .bodyToMono(CleanTranscriptResponse.class)
-                    .block();
+            return answerCache.getOrLoad("clean-transcript", null, CleanTranscriptResponse.class,
+                    () -> webClients.get(AiBackend.REFORMULATE)
+                            .post()
+                            .uri(interrogationCleanTranscriptUrl(aiHost, aiPort))
+                            .bodyValue(cleanTranscriptBody(request))
+                            .retrieve()
+                            .bodyToMono(CleanTranscriptResponse.class)
+                            .block(),
+                    request.getText(), request.getLanguage());
+        } catch (AiBackendBusyException | AiBackendUnavailableException e) {
+            throw e; // 503 + Retry-After in GlobalExceptionHandler
         } catch (Exception e) {
             log.error("Failed to clean transcript", e);
             throw new IllegalStateException("Ошибка очистки текста: " + e.getMessage());
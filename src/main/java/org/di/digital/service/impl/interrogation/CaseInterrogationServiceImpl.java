@@ -2,6 +2,8 @@ package org.di.digital.service.impl.interrogation;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.response.interrogation.*;
 import org.di.digital.exception.NotFoundException;
 import org.di.digital.model.cases.Case;
@@ -30,12 +32,13 @@ import org.di.digital.service.core.MinioService;
 import org.di.digital.util.PageCounter;
 import org.di.digital.util.mapper.InterrogationMapper;
 import org.di.digital.util.requests.UserUtil;
+import org.di.digital.util.schedule.InterrogationTimerChangedEvent;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -66,10 +69,11 @@ public class CaseInterrogationServiceImpl implements CaseInterrogationService {
     private final LogService logService;
     private final FLService flService;
     private final InterrogationMapper mapper;
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final PageCounter pageCounter;
     private final UserUtil userUtil;
     private final InterrogationTimeGuard timeGuard;
+    private final ApplicationEventPublisher eventPublisher;
     private final InterrogationCreateWriter interrogationWriter;
     private final AudioUploadWriter audioUploadWriter;
     private final ApplicationFileWriter applicationFileWriter;
@@ -129,7 +133,7 @@ public class CaseInterrogationServiceImpl implements CaseInterrogationService {
     private String fetchArticleFromCaseInfo(String caseNumber) {
         try {
             String url = caseInfoUrl(pythonHost, treePort, caseNumber);
-            return webClientBuilder.build()
+            return webClients.get(AiBackend.TREE)
                     .post()
                     .uri(url)
                     .retrieve()
@@ -669,6 +673,7 @@ public class CaseInterrogationServiceImpl implements CaseInterrogationService {
         }
 
         CaseInterrogation saved = caseInterrogationRepository.save(interrogation);
+        publishTimerChange(saved, now);
         log.info("Saved interrogation: id={}, timerSessionsSize={}, startedAt={}, finishedAt={}, durationSeconds={}",
                 saved.getId(),
                 saved.getTimerSessions().size(),
@@ -791,6 +796,7 @@ public class CaseInterrogationServiceImpl implements CaseInterrogationService {
         interrogation.setContinuousOverrideConfirmed(false);
         interrogation.setNotifiedBreakOver(false);
         caseInterrogationRepository.save(interrogation);
+        publishTimerChange(interrogation, now);
 
         logService.log(
                 String.format("Break started for interrogation %s by %s in case %s",
@@ -824,6 +830,7 @@ public class CaseInterrogationServiceImpl implements CaseInterrogationService {
                 ground == InterrogationSpecialGround.OTHER ? groundNote : null);
         interrogation.setCategoryConfirmed(true);
         caseInterrogationRepository.save(interrogation);
+        publishTimerChange(interrogation, LocalDateTime.now());
 
         logService.log(
                 String.format("Category confirmed for interrogation %s by %s: profile=%s, ground=%s%s",
@@ -879,6 +886,7 @@ public class CaseInterrogationServiceImpl implements CaseInterrogationService {
         }
 
         caseInterrogationRepository.save(interrogation);
+        publishTimerChange(interrogation, now);
 
         logService.log(
                 String.format("Continuous-limit override confirmed for %s by %s",
@@ -933,5 +941,11 @@ public class CaseInterrogationServiceImpl implements CaseInterrogationService {
         interrogation.setStatus(CaseInterrogationStatusEnum.COMPLETED);
 
         caseInterrogationRepository.save(interrogation);
+        publishTimerChange(interrogation, now);
+    }
+
+    private void publishTimerChange(CaseInterrogation interrogation, LocalDateTime now) {
+        eventPublisher.publishEvent(new InterrogationTimerChangedEvent(
+                interrogation.getId(), timeGuard.nextCheckAt(interrogation, now)));
     }
 }
@@ -3,6 +3,7 @@ package org.di.digital.service.impl.interrogation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.di.digital.dto.response.interrogation.InterrogationTimeStatusResponse;
+import org.di.digital.model.enums.interrogation.CaseInterrogationStatusEnum;
 import org.di.digital.model.enums.interrogation.InterrogationLimitProfile;
 import org.di.digital.model.interrogation.CaseInterrogation;
 import org.di.digital.model.interrogation.CaseInterrogationTimerSession;
@@ -120,6 +121,89 @@ public class InterrogationTimeGuard {
                 .build();
     }
 
+    /**
+     * Ближайший момент, когда шедулеру может понадобиться действовать: предупреждение,
+     * лимит, конец перерыва или предел брошенной сессии. {@code now}, если действие уже
+     * требуется; {@code null}, если допрос не идёт или без изменения состояния таймера
+     * ничего не наступит.
+     * Момент никогда не бывает позже реального — раньше допустимо, шедулер просто
+     * пересчитает его.
+     */
+    public LocalDateTime nextCheckAt(CaseInterrogation i, LocalDateTime now) {
+        if (i.getStatus() != CaseInterrogationStatusEnum.IN_PROGRESS
+                || !Boolean.TRUE.equals(i.getCategoryConfirmed())) {
+            return null;
+        }
+        InterrogationLimitProfile p = profileOf(i);
+        InterrogationTimeStatusResponse status = status(i, now);
+        boolean overridden = Boolean.TRUE.equals(i.getContinuousOverrideConfirmed());
+
+        // то, что checkOne сделает прямо сейчас
+        boolean limitPending = !status.isOnBreak() && status.isContinuousLimitReached() && !overridden
+                && (!Boolean.TRUE.equals(i.getIsPaused()) || !Boolean.TRUE.equals(i.getNotifiedContinuousLimit()));
+        boolean continuousWarnPending = !status.isOnBreak() && status.isContinuousWarn()
+                && !status.isContinuousLimitReached() && !Boolean.TRUE.equals(i.getNotifiedContinuousWarn());
+        boolean dailyWarnPending = status.isDailyWarn() && !status.isDailyLimitReached()
+                && !Boolean.TRUE.equals(i.getNotifiedDailyWarn());
+
+        LocalDateTime seriesStart = i.getCurrentSeriesStartedAt() != null
+                ? i.getCurrentSeriesStartedAt()
+                : i.getStartedAt();
+        LocalDateTime abandonAt = seriesStart != null ? seriesStart.plus(abandonLimit(i)) : null;
+        boolean abandonPending = abandonAt != null && !abandonAt.isAfter(now);
+        if (abandonPending || status.isDailyLimitReached() || limitPending || continuousWarnPending || dailyWarnPending) {
+            return now;
+        }
+
+        LocalDateTime next = earliest(null, abandonAt, now);
+
+        boolean onBreak = Boolean.TRUE.equals(i.getOnBreak());
+        if (onBreak && i.getBreakStartedAt() != null) {
+            // после перерыва замороженный continuous снова начинает учитываться
+            next = earliest(next, i.getBreakStartedAt().plus(CaseInterrogation.MANDATORY_BREAK), now);
+        }
+        if (onBreak) {
+            return next; // во время перерыва счётчики заморожены
+        }
+
+        int continuousRunning = 0;
+        int dailyRunning = 0;
+        for (CaseInterrogationTimerSession s : i.getTimerSessions()) {
+            if (s.getStartedAt() == null || s.getPausedAt() != null || s.getStartedAt().isAfter(now)) continue;
+            if (i.getCurrentSeriesStartedAt() != null && !s.getStartedAt().isBefore(i.getCurrentSeriesStartedAt())) {
+                continuousRunning++;
+            }
+            if (s.getStartedAt().toLocalDate().equals(now.toLocalDate())) {
+                dailyRunning++;
+            }
+        }
+
+        Duration cont = Duration.ofSeconds(status.getContinuousSeconds());
+        Duration daily = Duration.ofSeconds(status.getDailySeconds());
+        if (!Boolean.TRUE.equals(i.getNotifiedContinuousWarn())) {
+            next = earliest(next, reachedAt(cont, p.continuousWarn, continuousRunning, now), now);
+        }
+        if (!overridden) {
+            next = earliest(next, reachedAt(cont, p.continuousMax, continuousRunning, now), now);
+        }
+        if (!Boolean.TRUE.equals(i.getNotifiedDailyWarn())) {
+            next = earliest(next, reachedAt(daily, p.dailyWarn, dailyRunning, now), now);
+        }
+        return earliest(next, reachedAt(daily, p.dailyMax, dailyRunning, now), now);
+    }
+
+    // каждая открытая сессия добавляет к счётчику секунду в секунду
+    private static LocalDateTime reachedAt(Duration elapsed, Duration threshold, int running, LocalDateTime now) {
+        if (running == 0 || elapsed.compareTo(threshold) >= 0) return null;
+        long seconds = threshold.minus(elapsed).getSeconds();
+        return now.plusSeconds((seconds + running - 1) / running);
+    }
+
+    private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate, LocalDateTime now) {
+        if (candidate == null || !candidate.isAfter(now)) return current;
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
     /**
      * Проверка перед запуском/записью. Бросает, если продолжать нельзя.
      */
@@ -2,13 +2,15 @@ package org.di.digital.service.impl.osmotr;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.message.OsmotrProcessingMessage;
 import org.di.digital.dto.request.osmotr.DistributionRequest;
 import org.di.digital.dto.request.osmotr.OsmotrDecisionDto;
 import org.di.digital.dto.request.osmotr.OsmotrSubmitDecisionsRequest;
 import org.di.digital.dto.response.osmotr.OsmotrDataItemDto;
 import org.di.digital.dto.response.osmotr.OsmotrResultDto;
-import org.di.digital.dto.response.osmotr.OsmotrResultSegmentDto;
+import org.di.digital.dto.response.osmotr.OsmotrSegmentSearchHitDto;
 import org.di.digital.dto.response.osmotr.OsmotrSubmitDecisionsResponse;
 import org.di.digital.exception.NotFoundException;
 import org.di.digital.model.cases.Case;
@@ -18,6 +20,7 @@ import org.di.digital.model.osmotr.OsmotrResultSegment;
 import org.di.digital.model.user.User;
 import org.di.digital.repository.cases.CaseRepository;
 import org.di.digital.repository.osmotr.OsmotrResultRepository;
+import org.di.digital.repository.osmotr.OsmotrResultSegmentRepository;
 import org.di.digital.repository.user.UserRepository;
 import org.di.digital.service.core.MinioService;
 import org.di.digital.service.osmotr.OsmotrService;
@@ -26,18 +29,27 @@ import org.di.digital.util.PdfSplitter;
 import org.di.digital.util.mapper.OsmotrMapper;
 import org.di.digital.util.requests.UserUtil;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.WebClient;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.util.*;
 
 import static java.util.Base64.getDecoder;
-import static java.util.Base64.getEncoder;
 import static org.di.digital.util.requests.RequestUrlBuilder.osmotrDecisionUrl;
 
 @Slf4j
@@ -45,9 +57,10 @@ import static org.di.digital.util.requests.RequestUrlBuilder.osmotrDecisionUrl;
 @RequiredArgsConstructor
 public class OsmotrServiceImpl implements OsmotrService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final MinioService minioService;
     private final OsmotrResultRepository osmotrResultRepository;
+    private final OsmotrResultSegmentRepository osmotrResultSegmentRepository;
     private final UserRepository userRepository;
     private final CaseRepository caseRepository;
     private final OsmotrQueueService osmotrQueueService;
@@ -55,6 +68,8 @@ public class OsmotrServiceImpl implements OsmotrService {
     private final OsmotrMapper mapper;
     private final UserUtil userUtil;
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     @Value("${model.host}")
     private String osmotrHost;
 
@@ -106,6 +121,8 @@ public class OsmotrServiceImpl implements OsmotrService {
             result.setStatus(OsmotrProcessingStatus.PENDING);
             result.setSessionId(null);
             result.setReportFile(null);
+            result.setReportFileSize(null);
+            result.setReportFileChecksum(null);
             result.setReportTxt(null);
             result.setErrorMessage(null);
             result.setProcessingDurationSeconds(null);
@@ -146,11 +163,7 @@ public class OsmotrServiceImpl implements OsmotrService {
         userUtil.validateUserAccess(caseEntity, user);
 
         return osmotrResultRepository.findByCaseNumber(caseNumber).stream()
-                .map(result -> {
-                    OsmotrResultDto dto = mapper.toDto(result);
-                    attachReportBase64(result, dto);
-                    return dto;
-                })
+                .map(mapper::toDto)
                 .toList();
     }
 
@@ -163,20 +176,7 @@ public class OsmotrServiceImpl implements OsmotrService {
         userUtil.validateUserAccess(caseEntity, user);
 
         return osmotrResultRepository.findById(resultId)
-                .map(result -> {
-                    OsmotrResultDto dto = mapper.toDto(result);
-                    attachReportBase64(result, dto);
-                    return dto;
-                });
-    }
-
-    private void attachReportBase64(OsmotrResult result, OsmotrResultDto dto) {
-        if (result.getReportFile() == null) return;
-        try (InputStream is = minioService.downloadFile(result.getReportFile())) {
-            dto.setReportFileBase64(getEncoder().encodeToString(is.readAllBytes()));
-        } catch (Exception e) {
-            log.error("Failed to read report docx for result {}: {}", result.getId(), e.getMessage(), e);
-        }
+                .map(mapper::toDto);
     }
 
     @Transactional
@@ -223,7 +223,7 @@ public class OsmotrServiceImpl implements OsmotrService {
         OsmotrResultDto dto = mapper.toDto(saved);
 
         try {
-            OsmotrSubmitDecisionsResponse response = webClientBuilder.build()
+            OsmotrSubmitDecisionsResponse response = webClients.get(AiBackend.OSMOTR)
                     .post()
                     .uri(osmotrDecisionUrl(osmotrHost, osmotrPort))
                     .contentType(MediaType.APPLICATION_JSON)
@@ -253,14 +253,6 @@ public class OsmotrServiceImpl implements OsmotrService {
             log.error("Failed to submit decisions to AI for resultId={}: {}", resultId, e.getMessage(), e);
         }
 
-        if (saved.getReportFile() != null) {
-            try (InputStream is = minioService.downloadFile(saved.getReportFile())) {
-                dto.setReportFileBase64(getEncoder().encodeToString(is.readAllBytes()));
-            } catch (Exception e) {
-                log.error("Failed to read report docx for result {}: {}", resultId, e.getMessage(), e);
-            }
-        }
-
         return dto;
     }
 
@@ -286,7 +278,7 @@ public class OsmotrServiceImpl implements OsmotrService {
         }
     }
 
-    public byte[] mergeSegments(String caseNumber, Long resultId, String type, String email) throws Exception {
+    public InputStreamResource mergeSegments(String caseNumber, Long resultId, String type, String email) throws Exception {
         Case caseEntity = caseRepository.findByNumber(caseNumber)
                 .orElseThrow(() -> new NotFoundException("Дело не найдено: " + caseNumber));
         User user = userRepository.findByEmail(email)
@@ -307,14 +299,41 @@ public class OsmotrServiceImpl implements OsmotrService {
             throw new NotFoundException("Нет сегментов с type=" + type);
         }
 
-        return pdfSplitter.mergeSegments(segments.stream()
-                .map(s -> {
-                    try (InputStream is = minioService.downloadFile(s.getFileUrl())) {
-                        return is.readAllBytes();
-                    } catch (Exception e) {
-                        throw new IllegalStateException("Ошибка скачивания сегмента: " + s.getId(), e);
-                    }
-                }).toList());
+        List<Path> sources = new ArrayList<>(segments.size());
+        Path merged = null;
+        try {
+            for (OsmotrResultSegment segment : segments) {
+                Path source = Files.createTempFile("osmotr-segment-", ".pdf");
+                sources.add(source);
+                try (InputStream is = minioService.downloadFile(segment.getFileUrl())) {
+                    Files.copy(is, source, StandardCopyOption.REPLACE_EXISTING);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Ошибка скачивания сегмента: " + segment.getId(), e);
+                }
+            }
+
+            merged = Files.createTempFile("osmotr-merged-", ".pdf");
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(merged))) {
+                pdfSplitter.mergeSegments(sources.stream().map(Path::toFile).toList(), out);
+            }
+
+            InputStream mergedStream = Files.newInputStream(merged, StandardOpenOption.DELETE_ON_CLOSE);
+            merged = null;
+            return new InputStreamResource(mergedStream);
+        } finally {
+            sources.forEach(this::deleteQuietly);
+            if (merged != null) {
+                deleteQuietly(merged);
+            }
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}: {}", path, e.getMessage());
+        }
     }
 
     public byte[] downloadGeneratedFile(String caseNumber, Long resultId, String fileType, String email) {
@@ -349,32 +368,28 @@ public class OsmotrServiceImpl implements OsmotrService {
     }
 
     @Transactional(readOnly = true)
-    public List<OsmotrResultDto> searchSegments(String caseNumber, String query, String email) {
+    public Page<OsmotrSegmentSearchHitDto> searchSegments(String caseNumber, String query, int page, int size, String email) {
         Case caseEntity = caseRepository.findByNumber(caseNumber)
                 .orElseThrow(() -> new NotFoundException("Дело не найдено: " + caseNumber));
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new NotFoundException("Пользователь не найден: " + email));
         userUtil.validateUserAccess(caseEntity, user);
 
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE));
         if (query == null || query.isBlank()) {
-            return List.of();
+            return Page.empty(pageable);
         }
 
-        String q = query.trim().toLowerCase();
-
-        return osmotrResultRepository.searchBySegmentText(caseNumber, q).stream()
-                .map(result -> {
-                    OsmotrResultDto dto = mapper.toDto(result);
-                    if (dto.getSegments() != null) {
-                        List<OsmotrResultSegmentDto> matched = dto.getSegments().stream()
-                                .filter(s -> s.getInspectionText() != null
-                                        && s.getInspectionText().toLowerCase().contains(q))
-                                .toList();
-                        dto.setSegments(matched);
-                    }
-                    return dto;
-                })
-                .toList();
+        return osmotrResultSegmentRepository.searchByText(caseNumber, query.trim(), pageable)
+                .map(hit -> OsmotrSegmentSearchHitDto.builder()
+                        .resultId(hit.getResultId())
+                        .segmentId(hit.getSegmentId())
+                        .title(hit.getTitle())
+                        .startPage(hit.getStartPage())
+                        .endPage(hit.getEndPage())
+                        .rank(hit.getRank())
+                        .snippet(hit.getSnippet())
+                        .build());
     }
 
     private void overwriteGeneratedFile(String caseNumber, String type, String fileName, String base64) {
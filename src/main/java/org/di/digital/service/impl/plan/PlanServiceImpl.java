@@ -2,9 +2,13 @@ package org.di.digital.service.impl.plan;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.request.plan.AddPlanActionRequest;
 import org.di.digital.dto.request.plan.ManualStatusRequest;
 import org.di.digital.dto.response.plan.*;
+import org.di.digital.exception.AiBackendBusyException;
+import org.di.digital.exception.AiBackendUnavailableException;
 import org.di.digital.exception.NotFoundException;
 import org.di.digital.model.cases.Case;
 import org.di.digital.model.enums.*;
@@ -39,7 +43,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import java.io.IOException;
 import java.time.LocalDate;
@@ -64,7 +67,7 @@ public class PlanServiceImpl implements PlanService {
     private final RegionRepository regionRepository;
     private final CaseRepository caseRepository;
     private final UserRepository userRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final DocumentFormatterService documentFormatterService;
     private final NotificationService notificationService;
     private final LogService logService;
@@ -110,7 +113,7 @@ public class PlanServiceImpl implements PlanService {
 
         MultiValueMap<String, Object> body = planBody(caseNumber, mode);
 
-        Map<String, Object> response = webClientBuilder.build()
+        Map<String, Object> response = webClients.get(AiBackend.PLAN)
                 .post()
                 .uri(planGeneratorUrl(planHost, planPort))
                 .contentType(MediaType.MULTIPART_FORM_DATA)
@@ -507,7 +510,7 @@ public class PlanServiceImpl implements PlanService {
 
         Map<String, Object> aiResponse;
         try {
-            aiResponse = webClientBuilder.build()
+            aiResponse = webClients.get(AiBackend.PLAN)
                     .post()
                     .uri(manualStatusUrl(planHost, planPort, caseNumber))
                     .contentType(MediaType.APPLICATION_JSON)
@@ -515,6 +518,8 @@ public class PlanServiceImpl implements PlanService {
                     .retrieve()
                     .bodyToMono(new ParameterizedTypeReference<Map<String, Object>>() {})
                     .block();
+        } catch (AiBackendBusyException | AiBackendUnavailableException e) {
+            throw e; // 503 + Retry-After in GlobalExceptionHandler
         } catch (Exception e) {
             log.error("Failed to call manual_status on AI for case {}: {}", caseNumber, e.getMessage(), e);
             throw new IllegalStateException(
@@ -595,7 +600,7 @@ public class PlanServiceImpl implements PlanService {
     }
     private void syncPlanToAi(String caseNumber, Map<String, Object> plan) {
         try {
-            webClientBuilder.build()
+            webClients.get(AiBackend.PLAN)
                     .put()
                     .uri(planUpdateUrl(planHost, planPort, caseNumber))
                     .contentType(MediaType.APPLICATION_JSON)
@@ -3,6 +3,11 @@ package org.di.digital.service.impl.qualification;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.executor.WorkloadExecutors;
+import org.di.digital.config.executor.WorkloadExecutors.Workload;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiCallMetrics;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.request.qualification.QualificationRephraseApplyRequest;
 import org.di.digital.dto.request.qualification.QualificationSectionUpdateRequest;
 import org.di.digital.dto.response.qualification.QualificationSectionDto;
@@ -20,7 +25,8 @@ import org.di.digital.repository.user.UserRepository;
 import org.di.digital.service.*;
 import org.di.digital.service.cases.CaseService;
 import org.di.digital.service.export.DocumentFormatterService;
-import org.di.digital.service.impl.core.sse.SseHeartbeatUtil;
+import org.di.digital.service.impl.core.sse.GenerationStream;
+import org.di.digital.service.impl.core.sse.GenerationStreamRegistry;
 import org.di.digital.service.qualification.QualificationService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
@@ -28,17 +34,12 @@ import org.springframework.core.io.Resource;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestAttributes;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 import static org.di.digital.util.requests.RequestBodyBuilder.qualificationSectionBody;
@@ -56,11 +57,11 @@ public class QualificationServiceImpl implements QualificationService {
     private final CaseService caseService;
     private final LogService logService;
     private final UserRepository userRepository;
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final QualificationWriter qualificationWriter;
 
-    private final SseHeartbeatUtil heartbeatUtil;
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final GenerationStreamRegistry generationStreams;
+    private final WorkloadExecutors workloadExecutors;
 
     @Value("${model.host}")
     private String pythonHost;
@@ -71,57 +72,52 @@ public class QualificationServiceImpl implements QualificationService {
     // ---------- public API ----------
 
     @Override
-    public SseEmitter generateQualification(String caseNumber, String email) {
-        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(10));
-        heartbeatUtil.startHeartbeat(emitter, "qualification-" + caseNumber);
-
-        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-        executor.execute(() -> {
-            RequestContextHolder.setRequestAttributes(attrs);
-            try {
-                streamQualification(caseNumber, emitter, email);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-        return emitter;
+    public SseEmitter generateQualification(String caseNumber, String email, String lastEventId) {
+        return generationStreams.open(
+                GenerationStreamRegistry.key("qualification", caseNumber),
+                "qualification-" + caseNumber,
+                TimeUnit.MINUTES.toMillis(10), lastEventId,
+                stream -> runAsync(() -> streamQualification(caseNumber, stream, email), stream),
+                () -> logJoined("qualification", caseNumber, email));
     }
 
     @Override
-    public SseEmitter generateQualificationSection(String caseNumber, String email, int sectionId) {
-        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(10));
-        heartbeatUtil.startHeartbeat(emitter, "qualification-section-" + caseNumber + "-" + sectionId);
-
-        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-        executor.execute(() -> {
-            RequestContextHolder.setRequestAttributes(attrs);
-            try {
-                streamQualificationSection(caseNumber, emitter, email, sectionId, "hybrid");
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-        return emitter;
+    public SseEmitter generateQualificationSection(String caseNumber, String email, int sectionId,
+                                                   String lastEventId) {
+        return generationStreams.open(
+                GenerationStreamRegistry.key("qualification-section", caseNumber, sectionId),
+                "qualification-section-" + caseNumber + "-" + sectionId,
+                TimeUnit.MINUTES.toMillis(10), lastEventId,
+                stream -> runAsync(() -> streamQualificationSection(caseNumber, stream, email, sectionId, "hybrid"), stream),
+                () -> logJoined("qualification section", caseNumber, email));
     }
 
     @Override
     public SseEmitter generateQualificationPrompt(String caseNumber, String email,
                                                   int startSectionId, int startOffset,
-                                                  int endSectionId, int endOffset, String prompt) {
-        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(10));
-        heartbeatUtil.startHeartbeat(emitter, "qualification-prompt-" + caseNumber);
+                                                  int endSectionId, int endOffset, String prompt,
+                                                  String lastEventId) {
+        return generationStreams.open(
+                GenerationStreamRegistry.key("qualification-prompt", caseNumber,
+                        startSectionId, startOffset, endSectionId, endOffset, prompt),
+                "qualification-prompt-" + caseNumber,
+                TimeUnit.MINUTES.toMillis(10), lastEventId,
+                stream -> runAsync(() -> streamQualificationPrompt(caseNumber, stream, email,
+                        startSectionId, startOffset, endSectionId, endOffset, prompt), stream),
+                () -> logJoined("qualification prompt", caseNumber, email));
+    }
 
-        RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
-        executor.execute(() -> {
-            RequestContextHolder.setRequestAttributes(attrs);
-            try {
-                streamQualificationPrompt(caseNumber, emitter, email,
-                        startSectionId, startOffset, endSectionId, endOffset, prompt);
-            } finally {
-                RequestContextHolder.resetRequestAttributes();
-            }
-        });
-        return emitter;
+    // qualification requests carry no user, so one run serves everyone; only the first
+    // requester reaches the audit inside the run, later ones are recorded here
+    private void logJoined(String generation, String caseNumber, String email) {
+        logService.log(String.format("Joining running %s generation by %s user in case %s",
+                        generation, email, caseNumber),
+                LogLevel.INFO, LogAction.QUALIFICATION, caseNumber, email);
+    }
+
+    private void runAsync(Runnable body, GenerationStream stream) {
+        // the stream reports abandonment through onError, which interrupts the blocked model call
+        workloadExecutors.submit(Workload.GENERATION, stream, () -> stream.runGuarded(body));
     }
 
     // ---------- streaming ----------
@@ -143,9 +139,10 @@ public class QualificationServiceImpl implements QualificationService {
         }
 
         try {
-            String responseJson = webClientBuilder.build()
+            String responseJson = webClients.get(AiBackend.QUALIFICATION)
                     .post()
                     .uri(qualificationUrl(pythonHost, pythonPort, user.getId(), caseNumber, entity.getLanguage()))
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "qualification")
                     .contentType(MediaType.APPLICATION_JSON)
                     .retrieve()
                     .bodyToMono(String.class)
@@ -203,9 +200,10 @@ public class QualificationServiceImpl implements QualificationService {
         }
 
         try {
-            String responseJson = webClientBuilder.build()
+            String responseJson = webClients.get(AiBackend.QUALIFICATION)
                     .post()
                     .uri(qualificationSectionUrl(pythonHost, pythonPort, caseNumber, user.getId()))
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "qualification-section")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(qualificationSectionBody(sectionId, mode, language))
                     .retrieve()
@@ -264,9 +262,10 @@ public class QualificationServiceImpl implements QualificationService {
         }
 
         try {
-            String responseJson = webClientBuilder.build()
+            String responseJson = webClients.get(AiBackend.QUALIFICATION)
                     .post()
                     .uri(qualificationPromptUrl(pythonHost, pythonPort, caseNumber))
+                    .attribute(AiCallMetrics.ENDPOINT_ATTRIBUTE, "qualification-prompt")
                     .contentType(MediaType.APPLICATION_JSON)
                     .bodyValue(Map.of(
                             "selected_text", context,
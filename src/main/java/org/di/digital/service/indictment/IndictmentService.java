@@ -9,12 +9,13 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 public interface IndictmentService {
-    SseEmitter generateIndictment(String caseNumber, String email);
-    SseEmitter completeIndictment(String caseNumber, String email);
-    SseEmitter generateIndictmentSection(String caseNumber, String email, int sectionId);
+    SseEmitter generateIndictment(String caseNumber, String email, String lastEventId);
+    SseEmitter completeIndictment(String caseNumber, String email, String lastEventId);
+    SseEmitter generateIndictmentSection(String caseNumber, String email, int sectionId, String lastEventId);
     SseEmitter generateIndictmentPrompt(String caseNumber, String email,
                                         int startSectionId, int startOffset,
-                                        int endSectionId, int endOffset, String prompt);
+                                        int endSectionId, int endOffset, String prompt,
+                                        String lastEventId);
     List<IndictmentSectionDto> applyRephrase(String caseNumber, IndictmentRephraseApplyRequest request);
     Resource downloadIndictmentAsWord(String caseNumber, String email);
     List<IndictmentSectionDto> getIndictmentSections(String caseNumber);
@@ -2,7 +2,9 @@ package org.di.digital.service.osmotr;
 
 import org.di.digital.dto.request.osmotr.DistributionRequest;
 import org.di.digital.dto.response.osmotr.OsmotrResultDto;
-import org.di.digital.dto.response.osmotr.OsmotrResultSegmentDto;
+import org.di.digital.dto.response.osmotr.OsmotrSegmentSearchHitDto;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -14,8 +16,8 @@ public interface OsmotrService {
     Optional<OsmotrResultDto> getResult(String caseNumber, Long resultId, String email);
     OsmotrResultDto updateDistribution(String caseNumber, Long resultId,
                                        DistributionRequest request, String email);
-    List<OsmotrResultDto> searchSegments(String caseNumber, String query, String email);
+    Page<OsmotrSegmentSearchHitDto> searchSegments(String caseNumber, String query, int page, int size, String email);
     byte[] downloadSegment(String caseNumber, Long resultId, Long segmentId, String email);
-    byte[] mergeSegments(String caseNumber, Long resultId, String type, String email) throws Exception;
+    InputStreamResource mergeSegments(String caseNumber, Long resultId, String type, String email) throws Exception;
     byte[] downloadGeneratedFile(String caseNumber, Long resultId, String fileType, String email);
 }
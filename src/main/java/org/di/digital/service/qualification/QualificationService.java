@@ -9,14 +9,15 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import java.util.List;
 
 public interface QualificationService {
-    SseEmitter generateQualification(String caseNumber, String email);
+    SseEmitter generateQualification(String caseNumber, String email, String lastEventId);
     Resource downloadQualificationAsWord(String caseNumber, String email);
     List<QualificationSectionDto> getQualificationSections(String caseNumber);
-    SseEmitter generateQualificationSection(String caseNumber, String email, int sectionId);
+    SseEmitter generateQualificationSection(String caseNumber, String email, int sectionId, String lastEventId);
 
     SseEmitter generateQualificationPrompt(String caseNumber, String email,
                                            int startSectionId, int startOffset,
-                                           int endSectionId, int endOffset, String prompt);
+                                           int endSectionId, int endOffset, String prompt,
+                                           String lastEventId);
 
     List<QualificationSectionDto> applyRephrase(String caseNumber, QualificationRephraseApplyRequest request);
 
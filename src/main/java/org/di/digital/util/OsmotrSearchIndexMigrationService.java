@@ -0,0 +1,63 @@
+package org.di.digital.util;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Maintains the full-text search column and indexes on osmotr segments. Hibernate's
+ * ddl-auto cannot express generated columns or GIN indexes, so they are created here;
+ * every statement is idempotent and runs on startup.
+ * <p>
+ * Russian stemming is used for titles and text; a second {@code simple} lexeme set keeps
+ * Kazakh and other words that the Russian dictionary would mangle searchable verbatim.
+ * <p>
+ * Adding the stored generated column rewrites {@code osmotr_result_segments} under an
+ * ACCESS EXCLUSIVE lock, so the first startup that creates it blocks reads and writes of
+ * segments until it finishes; later startups find the column and do nothing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OsmotrSearchIndexMigrationService {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void createSegmentSearchIndex() {
+        em.createNativeQuery("""
+                ALTER TABLE osmotr_result_segments
+                    ADD COLUMN IF NOT EXISTS search_vector tsvector
+                    GENERATED ALWAYS AS (
+                        setweight(to_tsvector('russian', COALESCE(title, '')), 'A')
+                        || setweight(to_tsvector('simple', COALESCE(title, '')), 'A')
+                        || setweight(to_tsvector('russian', COALESCE(inspection_text, '')), 'B')
+                        || setweight(to_tsvector('simple', COALESCE(inspection_text, '')), 'D')
+                    ) STORED
+                """).executeUpdate();
+
+        em.createNativeQuery("""
+                CREATE INDEX IF NOT EXISTS idx_osmotr_segments_search_vector
+                    ON osmotr_result_segments USING GIN (search_vector)
+                """).executeUpdate();
+
+        em.createNativeQuery("""
+                CREATE INDEX IF NOT EXISTS idx_osmotr_segments_result_id
+                    ON osmotr_result_segments (osmotr_result_id)
+                """).executeUpdate();
+
+        em.createNativeQuery("""
+                CREATE INDEX IF NOT EXISTS idx_osmotr_results_case_number
+                    ON osmotr_results (case_number)
+                """).executeUpdate();
+
+        log.info("Osmotr segment full-text index is in place");
+    }
+}
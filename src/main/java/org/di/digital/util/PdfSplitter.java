@@ -2,58 +2,86 @@ package org.di.digital.util;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
 import org.apache.pdfbox.io.RandomAccessReadBuffer;
 import org.apache.pdfbox.multipdf.PDFMergerUtility;
 import org.apache.pdfbox.multipdf.Splitter;
+import org.apache.pdfbox.cos.COSName;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
 @Component
 public class PdfSplitter {
 
-    public byte[] mergeSegments(List<byte[]> pdfBytesList) throws IOException {
+    /**
+     * Merges file-backed PDFs into {@code out}. Sources are opened one at a time, appended
+     * and closed again, so only one source's object graph is held at once; stream data of
+     * the sources and of the result lives in temp files. The result's own object graph
+     * (page tree, dictionaries) still grows with the total number of pages.
+     */
+    public void mergeSegments(List<File> sources, OutputStream out) throws IOException {
         PDFMergerUtility merger = new PDFMergerUtility();
-        ByteArrayOutputStream out = new ByteArrayOutputStream();
-        merger.setDestinationStream(out);
 
-        for (byte[] pdfBytes : pdfBytesList) {
-            merger.addSource(new RandomAccessReadBuffer(pdfBytes));
+        try (PDDocument destination = new PDDocument(IOUtils.createTempFileOnlyStreamCache())) {
+            for (File source : sources) {
+                try (PDDocument document = Loader.loadPDF(source, IOUtils.createTempFileOnlyStreamCache())) {
+                    // PDFBox 3 copies stream data into the destination, so the source can be closed right away
+                    merger.appendDocument(destination, document);
+                }
+            }
+            destination.save(out);
         }
-        merger.mergeDocuments(null);
-
-        return out.toByteArray();
     }
 
-    public byte[] extractPages(byte[] pdfBytes, int startPage, int endPage) throws IOException {
-        try (PDDocument doc = Loader.loadPDF(new RandomAccessReadBuffer(pdfBytes))) {
-            int totalPages = doc.getNumberOfPages();
-            int from = Math.max(1, startPage);
-            int to = Math.min(totalPages, endPage);
+    /**
+     * Cuts several page ranges out of one PDF while parsing the source only once.
+     * Each range is {startPage, endPage}, 1-based and inclusive; an out-of-bounds
+     * range yields an empty array at its position.
+     */
+    public List<byte[]> extractPageRanges(byte[] pdfBytes, List<int[]> ranges) throws IOException {
+        List<byte[]> parts = new ArrayList<>(ranges.size());
 
-            if (from > to) {
-                log.warn("Invalid page range: startPage={}, endPage={}, totalPages={}",
-                        startPage, endPage, totalPages);
-                return new byte[0];
-            }
+        try (PDDocument source = Loader.loadPDF(new RandomAccessReadBuffer(pdfBytes))) {
+            int totalPages = source.getNumberOfPages();
 
-            for (int i = totalPages - 1; i >= to; i--) {
-                doc.removePage(i);
-            }
+            for (int[] range : ranges) {
+                int from = Math.max(1, range[0]);
+                int to = Math.min(totalPages, range[1]);
 
-            for (int i = from - 2; i >= 0; i--) {
-                doc.removePage(i);
-            }
+                if (from > to) {
+                    log.warn("Invalid page range: startPage={}, endPage={}, totalPages={}",
+                            range[0], range[1], totalPages);
+                    parts.add(new byte[0]);
+                    continue;
+                }
+
+                try (PDDocument part = new PDDocument()) {
+                    part.getDocument().setVersion(source.getVersion());
+                    for (int i = from - 1; i < to; i++) {
+                        PDPage page = source.getPage(i);
+                        PDPage imported = part.importPage(page);
+                        if (page.getResources() != null && !page.getCOSObject().containsKey(COSName.RESOURCES)) {
+                            imported.setResources(page.getResources());
+                        }
+                    }
 
-            log.info("Extracted pages {}-{} from {} total pages", from, to, totalPages);
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    part.save(out);
+                    parts.add(out.toByteArray());
+                }
+            }
 
-            ByteArrayOutputStream out = new ByteArrayOutputStream();
-            doc.save(out);
-            return out.toByteArray();
+            log.info("Extracted {} page ranges from {} total pages", ranges.size(), totalPages);
         }
+        return parts;
     }
-}
\ No newline at end of file
+}
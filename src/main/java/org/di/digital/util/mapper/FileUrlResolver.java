@@ -2,14 +2,32 @@ package org.di.digital.util.mapper;
 
 import lombok.RequiredArgsConstructor;
 import org.di.digital.service.core.MinioService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class FileUrlResolver {
 
     private final MinioService minioService;
 
+    @Value("${minio.presigned.url.expiry.hours:24}")
+    private int presignedUrlExpiryHours;
+
+    @Value("${minio.presigned.url.cache.max-entries:5000}")
+    private int cacheMaxEntries;
+
+    private final Map<String, CachedUrl> downloadUrlCache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedUrl> eldest) {
+            return size() > cacheMaxEntries || !eldest.getValue().refreshAt().isAfter(Instant.now());
+        }
+    };
+
     public String preview(String fileUrl) {
         return fileUrl != null ? minioService.generatePresignedUrlForPreview(fileUrl) : null;
     }
@@ -19,4 +37,32 @@ public class FileUrlResolver {
                 ? minioService.generatePresignedUrlForDownload(fileUrl, originalFileName)
                 : null;
     }
-}
\ No newline at end of file
+
+    /**
+     * Same as {@link #download}, but reuses a previously signed URL until half of its
+     * lifetime has passed, so listings do not re-sign the same object on every call.
+     * The cache is an LRU of {@code minio.presigned.url.cache.max-entries}; expired
+     * entries are dropped on lookup or once they become the eldest.
+     */
+    public String cachedDownload(String fileUrl, String originalFileName) {
+        if (fileUrl == null) return null;
+
+        String key = fileUrl + "|" + originalFileName;
+        Instant now = Instant.now();
+        synchronized (downloadUrlCache) {
+            CachedUrl cached = downloadUrlCache.get(key);
+            if (cached != null) {
+                if (cached.refreshAt().isAfter(now)) return cached.url();
+                downloadUrlCache.remove(key);
+            }
+        }
+
+        String url = minioService.generatePresignedUrlForDownload(fileUrl, originalFileName);
+        synchronized (downloadUrlCache) {
+            downloadUrlCache.put(key, new CachedUrl(url, now.plusSeconds(presignedUrlExpiryHours * 1800L)));
+        }
+        return url;
+    }
+
+    private record CachedUrl(String url, Instant refreshAt) {}
+}
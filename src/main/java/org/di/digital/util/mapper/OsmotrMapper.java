@@ -1,6 +1,7 @@
 package org.di.digital.util.mapper;
 
 import lombok.RequiredArgsConstructor;
+import org.di.digital.dto.response.osmotr.OsmotrReportFileDto;
 import org.di.digital.dto.response.osmotr.OsmotrResultDto;
 import org.di.digital.dto.response.osmotr.OsmotrResultSegmentDto;
 import org.di.digital.model.osmotr.OsmotrResult;
@@ -9,6 +10,11 @@ import org.springframework.stereotype.Component;
 @Component
 @RequiredArgsConstructor
 public class OsmotrMapper {
+
+    private static final String REPORT_FILE_NAME = "report.docx";
+
+    private final FileUrlResolver fileUrlResolver;
+
     public OsmotrResultDto toDto(OsmotrResult result) {
         return OsmotrResultDto.builder()
                 .id(result.getId())
@@ -18,6 +24,7 @@ public class OsmotrMapper {
                 .userEmail(result.getUserEmail())
                 .status(result.getStatus())
                 .reportTxt(result.getReportTxt())
+                .reportFile(toReportFileDto(result))
                 .errorMessage(result.getErrorMessage())
                 .processingDurationSeconds(result.getProcessingDurationSeconds())
                 .createdAt(result.getCreatedAt())
@@ -35,4 +42,14 @@ public class OsmotrMapper {
                         .toList())
                 .build();
     }
+
+    private OsmotrReportFileDto toReportFileDto(OsmotrResult result) {
+        if (result.getReportFile() == null) return null;
+        return OsmotrReportFileDto.builder()
+                .fileName(REPORT_FILE_NAME)
+                .size(result.getReportFileSize())
+                .checksum(result.getReportFileChecksum())
+                .downloadUrl(fileUrlResolver.cachedDownload(result.getReportFile(), REPORT_FILE_NAME))
+                .build();
+    }
 }
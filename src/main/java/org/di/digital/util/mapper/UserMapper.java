@@ -5,6 +5,7 @@ import org.di.digital.dto.response.user.*;
 import org.di.digital.model.enums.settings.UserSettingsLanguage;
 import org.di.digital.model.user.*;
 import org.di.digital.repository.user.RegionRepository;
+import org.di.digital.service.impl.core.presence.PresenceRegistry;
 import org.di.digital.util.LocalizationHelper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -19,6 +20,7 @@ public class UserMapper {
 
     private final LocalizationHelper localizationHelper;
     private final RegionRepository regionRepository;
+    private final PresenceRegistry presenceRegistry;
 
     @Value("${last.seen.ttl}")
     private int ttl;
@@ -58,11 +60,11 @@ public class UserMapper {
                 .email(user.getEmail())
                 .faceEnabled(user.isFaceEnabled())
                 .active(user.isActive())
-                .online(user.isOnline(ttl))
+                .online(user.isOnline(ttl) || presenceRegistry.isOnline(user.getEmail()))
                 .settings(toSettingsDto(user, lang))
                 .street(localizationHelper.getLocalizedName(primaryAddress(user), lang))
                 .createdCaseCount(user.getOwnedCases() != null ? user.getOwnedCases().size() : 0)
-                .lastSeenAt(LastSeenFormatter.format(user.getLastSeenAt()))
+                .lastSeenAt(LastSeenFormatter.format(presenceRegistry.lastSeen(user.getEmail(), user.getLastSeenAt())))
                 .build();
     }
 
@@ -21,6 +21,12 @@ public class RequestBodyBuilder {
         return body;
     }
 
+    public static Map<String, Object> caseChatStreamBody(String question) {
+        Map<String, Object> body = generalChatBody(question);
+        body.put("stream", true);
+        return body;
+    }
+
     public static Map<String, Object> indictmentBody(String caseNumber, List<String> qualoNames,
                                                      long userId, boolean isDone, String language) {
         Map<String, Object> body = new HashMap<>();
@@ -0,0 +1,83 @@
+package org.di.digital.util.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Next check moment of every running interrogation, ordered by time, so the time scheduler
+ * loads only the interrogations that are due instead of all IN_PROGRESS ones on each tick.
+ * <p>
+ * Moments are set after commit from {@link InterrogationTimerChangedEvent}s and rebuilt
+ * from the database by {@link InterrogationTimeScheduler}. A replaced moment stays in the
+ * queue and is skipped when polled.
+ */
+@Slf4j
+@Component
+public class InterrogationDeadlineIndex {
+
+    private final Map<Long, LocalDateTime> deadlines = new HashMap<>();
+    private final PriorityQueue<Deadline> queue = new PriorityQueue<>(Comparator.comparing(Deadline::at));
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTimerChanged(InterrogationTimerChangedEvent event) {
+        schedule(event.interrogationId(), event.nextCheckAt());
+    }
+
+    /**
+     * Replaces the moment of {@code interrogationId}; {@code null} removes it.
+     */
+    public synchronized void schedule(Long interrogationId, LocalDateTime at) {
+        if (at == null) {
+            deadlines.remove(interrogationId);
+            return;
+        }
+        deadlines.put(interrogationId, at);
+        queue.add(new Deadline(interrogationId, at));
+    }
+
+    /**
+     * Keeps the earlier of the current and the given moment. Used by rebuilds, which must
+     * not postpone a moment set by a change committed after their read.
+     */
+    public synchronized void scheduleNoLaterThan(Long interrogationId, LocalDateTime at) {
+        LocalDateTime current = deadlines.get(interrogationId);
+        if (at == null || (current != null && !at.isBefore(current))) return;
+        deadlines.put(interrogationId, at);
+        queue.add(new Deadline(interrogationId, at));
+    }
+
+    /**
+     * Removes and returns the interrogations due at {@code now}.
+     */
+    public synchronized List<Long> pollDue(LocalDateTime now) {
+        List<Long> due = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().at().isAfter(now)) {
+            Deadline deadline = queue.poll();
+            if (deadline.at().equals(deadlines.get(deadline.interrogationId()))) {
+                deadlines.remove(deadline.interrogationId());
+                due.add(deadline.interrogationId());
+            }
+        }
+        // stale entries pile up when moments keep moving; compact once they dominate
+        if (queue.size() > 2 * deadlines.size() + 64) {
+            queue.clear();
+            deadlines.forEach((id, at) -> queue.add(new Deadline(id, at)));
+        }
+        return due;
+    }
+
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+    private record Deadline(Long interrogationId, LocalDateTime at) {}
+}
@@ -11,9 +11,13 @@ import org.di.digital.repository.interrogation.CaseInterrogationRepository;
 import org.di.digital.service.impl.core.NotificationService;
 import org.di.digital.service.impl.interrogation.CaseInterrogationServiceImpl;
 import org.di.digital.service.impl.interrogation.InterrogationTimeGuard;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
@@ -22,6 +26,13 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
+/**
+ * Контроль времени допросов. Шедулер не перебирает все идущие допросы: ближайший момент
+ * проверки каждого ({@link InterrogationTimeGuard#nextCheckAt}) хранится в
+ * {@link InterrogationDeadlineIndex}, и на каждом тике загружаются только наступившие.
+ * Индекс строится из БД при старте и сверяется с ней раз в
+ * {@code scheduler.interrogation.reindex-ms}.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -31,23 +42,64 @@ public class InterrogationTimeScheduler {
     private final InterrogationTimeGuard timeGuard;
     private final NotificationService notificationService;
     private final CaseInterrogationServiceImpl interrogationService;
+    private final InterrogationDeadlineIndex deadlineIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     @Scheduled(fixedDelayString = "${scheduler.interrogation.time}")
-    @Transactional
     public void checkActiveInterrogations() {
-        List<CaseInterrogation> active = caseInterrogationRepository
-                .findActiveWithCase(CaseInterrogationStatusEnum.IN_PROGRESS);
-
-        if (active.isEmpty()) return;
-
         LocalDateTime now = LocalDateTime.now();
+        List<Long> due = deadlineIndex.pollDue(now);
+        if (due.isEmpty()) return;
+
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+                List<CaseInterrogation> active = caseInterrogationRepository
+                        .findActiveWithCaseByIdIn(due, CaseInterrogationStatusEnum.IN_PROGRESS);
+
+                for (CaseInterrogation i : active) {
+                    try {
+                        checkOne(i, now);
+                    } catch (Exception e) {
+                        log.error("Time check failed for interrogation {}: {}", i.getId(), e.getMessage());
+                    }
+                    // новый момент попадёт в индекс после коммита
+                    eventPublisher.publishEvent(new InterrogationTimerChangedEvent(i.getId(), timeGuard.nextCheckAt(i, now)));
+                }
+            });
+        } catch (Exception e) {
+            log.error("Time check of {} interrogations failed, retrying on next tick: {}", due.size(), e.getMessage());
+            due.forEach(id -> deadlineIndex.scheduleNoLaterThan(id, now));
+        }
+    }
 
-        for (CaseInterrogation i : active) {
-            try {
-                checkOne(i, now);
-            } catch (Exception e) {
-                log.error("Time check failed for interrogation {}: {}", i.getId(), e.getMessage());
-            }
+    /**
+     * Полная сверка индекса с БД: при старте и периодически, на случай изменений,
+     * сделанных на других узлах или потерянных при откате транзакции.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${scheduler.interrogation.reindex-ms:300000}",
+            fixedDelayString = "${scheduler.interrogation.reindex-ms:300000}")
+    public void rebuildIndex() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        try {
+            Integer scheduled = readOnly.execute(tx -> {
+                LocalDateTime now = LocalDateTime.now();
+                int count = 0;
+                for (CaseInterrogation i : caseInterrogationRepository
+                        .findActiveWithCase(CaseInterrogationStatusEnum.IN_PROGRESS)) {
+                    LocalDateTime at = timeGuard.nextCheckAt(i, now);
+                    if (at != null) {
+                        deadlineIndex.scheduleNoLaterThan(i.getId(), at);
+                        count++;
+                    }
+                }
+                return count;
+            });
+            log.info("Interrogation deadline index rebuilt: {} scheduled, {} indexed", scheduled, deadlineIndex.size());
+        } catch (Exception e) {
+            log.error("Interrogation deadline index rebuild failed", e);
         }
     }
 
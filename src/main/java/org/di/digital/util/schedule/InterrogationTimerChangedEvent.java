@@ -0,0 +1,10 @@
+package org.di.digital.util.schedule;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published when the timer state of an interrogation changes. {@code nextCheckAt} is the
+ * next moment the time scheduler has to look at it, {@code null} when none.
+ */
+public record InterrogationTimerChangedEvent(Long interrogationId, LocalDateTime nextCheckAt) {
+}
@@ -25,7 +25,9 @@ public class CaseAnalyticsPersistenceService {
     public CaseAnalyticsService.CaseRef loadCaseRef(Long caseId) {
         Case caseEntity = caseRepository.findById(caseId)
                 .orElseThrow(() -> new IllegalStateException("Дело не найдено: " + caseId));
-        return new CaseAnalyticsService.CaseRef(caseEntity.getNumber(), caseEntity.getLanguage());
+        return new CaseAnalyticsService.CaseRef(
+                caseEntity.getNumber(), caseEntity.getLanguage(), caseEntity.getQualification(),
+                caseEntity.getQualificationSections());
     }
 
     @Transactional
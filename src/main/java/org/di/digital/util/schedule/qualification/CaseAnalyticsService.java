@@ -2,11 +2,17 @@ package org.di.digital.util.schedule.qualification;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.di.digital.config.webclient.AiBackend;
+import org.di.digital.config.webclient.AiBulkhead;
+import org.di.digital.config.webclient.AiWebClientRegistry;
 import org.di.digital.dto.response.qualification.QualificationAnalyticsExternalResponse;
+import org.di.digital.service.impl.core.cache.AiAnswerCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Map;
 
 import static org.di.digital.util.requests.RequestUrlBuilder.analyticsQualification;
 
@@ -15,8 +21,9 @@ import static org.di.digital.util.requests.RequestUrlBuilder.analyticsQualificat
 @RequiredArgsConstructor
 public class CaseAnalyticsService {
 
-    private final WebClient.Builder webClientBuilder;
+    private final AiWebClientRegistry webClients;
     private final CaseAnalyticsPersistenceService persistenceService;
+    private final AiAnswerCache answerCache;
 
     @Value("${model.host}")
     private String host;
@@ -35,7 +42,10 @@ public class CaseAnalyticsService {
 
         QualificationAnalyticsExternalResponse response;
         try {
-            response = fetchAnalytics(ref.number(), ref.language());
+            response = answerCache.getOrLoad("qualification-analytics", ref.number(),
+                    QualificationAnalyticsExternalResponse.class,
+                    () -> fetchAnalytics(ref.number(), ref.language()),
+                    ref.language(), ref.qualification(), ref.qualificationSections());
         } catch (Exception e) {
             log.error("Failed to fetch qualification analytics.txt for case {}: {}",
                     ref.number(), e.getMessage(), e);
@@ -58,14 +68,20 @@ public class CaseAnalyticsService {
     }
 
     private QualificationAnalyticsExternalResponse fetchAnalytics(String caseNumber, String language) {
-        return webClientBuilder.build()
+        return webClients.get(AiBackend.QUALIFICATION_ANALYTICS)
                 .get()
                 .uri(analyticsQualification(host, port, caseNumber, language))
+                .attribute(AiBulkhead.PRIORITY_ATTRIBUTE, AiBulkhead.Priority.BATCH)
                 .accept(MediaType.APPLICATION_JSON)
                 .retrieve()
                 .bodyToMono(QualificationAnalyticsExternalResponse.class)
                 .block();
     }
 
-    public record CaseRef(String number, String language) {}
+    /**
+     * {@code qualification} is {@code null} for a qualification generated as sections, so
+     * the sections are part of the cache key as well.
+     */
+    public record CaseRef(String number, String language, String qualification,
+                          List<Map<String, Object>> qualificationSections) {}
 }
\ No newline at end of file
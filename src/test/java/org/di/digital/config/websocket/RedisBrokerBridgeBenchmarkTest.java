@@ -0,0 +1,47 @@
+package org.di.digital.config.websocket;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput of the bridge itself (envelope serialization on the publishing node,
+ * deserialization and re-injection on the receiving one), without network or Redis.
+ * Run with {@code mvn test -Dtest=RedisBrokerBridgeBenchmarkTest -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RedisBrokerBridgeBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int MESSAGES = 200_000;
+
+    @Test
+    void caseTopicThroughput() {
+        try (TwoNodeBridge nodes = new TwoNodeBridge()) {
+            String payload = "{\"caseNumber\":\"42\",\"sequence\":1,\"files\":[{\"fileId\":1,\"status\":\"COMPLETED\"}]}";
+            for (int i = 0; i < WARMUP; i++) {
+                nodes.first.template.convertAndSend("/topic/case/42/status", payload);
+            }
+            nodes.second.delivered.clear();
+
+            long startedAt = System.nanoTime();
+            for (int i = 0; i < MESSAGES; i++) {
+                nodes.first.template.convertAndSend("/topic/case/42/status", payload);
+                if (nodes.second.delivered.size() > 10_000) {
+                    nodes.first.delivered.clear();
+                    nodes.second.delivered.clear();
+                }
+            }
+            long elapsed = System.nanoTime() - startedAt;
+
+            double perSecond = MESSAGES / (elapsed / (double) TimeUnit.SECONDS.toNanos(1));
+            System.out.printf("RedisBrokerBridge: %d messages in %d ms, %.0f msg/s, %.1f us/msg%n",
+                    MESSAGES, TimeUnit.NANOSECONDS.toMillis(elapsed), perSecond,
+                    elapsed / (double) MESSAGES / 1_000);
+            assertThat(nodes.published()).isEqualTo(WARMUP + MESSAGES);
+        }
+    }
+}
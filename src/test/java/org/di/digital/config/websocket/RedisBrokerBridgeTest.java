@@ -0,0 +1,76 @@
+package org.di.digital.config.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RedisBrokerBridgeTest {
+
+    private TwoNodeBridge nodes;
+
+    @BeforeEach
+    void setUp() {
+        nodes = new TwoNodeBridge();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodes.close();
+    }
+
+    @Test
+    void caseTopicMessageReachesTheOtherNodeExactlyOnce() {
+        nodes.first.template.convertAndSend("/topic/case/42/status", "{\"sequence\":7}",
+                Map.of("notification-seq", 7L));
+
+        assertThat(nodes.first.delivered).hasSize(1);
+        assertThat(nodes.second.delivered).hasSize(1);
+        assertThat(nodes.published()).isEqualTo(1);
+
+        Message<?> received = nodes.second.delivered.getFirst();
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(received);
+        assertThat(accessor.getDestination()).isEqualTo("/topic/case/42/status");
+        assertThat(accessor.getFirstNativeHeader("notification-seq")).isEqualTo("7");
+        assertThat(new String((byte[]) received.getPayload(), StandardCharsets.UTF_8)).isEqualTo("{\"sequence\":7}");
+    }
+
+    @Test
+    void messagesFromBothNodesAreNotEchoedBack() {
+        nodes.first.template.convertAndSend("/topic/case/1/status", "a");
+        nodes.second.template.convertAndSend("/topic/case/2/status", "b");
+
+        assertThat(destinations(nodes.first.delivered)).containsExactly("/topic/case/1/status", "/topic/case/2/status");
+        assertThat(destinations(nodes.second.delivered)).containsExactly("/topic/case/1/status", "/topic/case/2/status");
+        assertThat(nodes.published()).isEqualTo(2);
+    }
+
+    @Test
+    void unresolvedUserDestinationsAreForwarded() {
+        nodes.first.template.convertAndSend("/user/someone@example.com/queue/notifications", "x");
+
+        assertThat(destinations(nodes.second.delivered)).containsExactly("/user/someone@example.com/queue/notifications");
+    }
+
+    @Test
+    void sessionQueuesStayLocal() {
+        nodes.first.template.convertAndSend("/queue/notifications-user123", "x");
+
+        assertThat(nodes.first.delivered).hasSize(1);
+        assertThat(nodes.second.delivered).isEmpty();
+        assertThat(nodes.published()).isZero();
+    }
+
+    private static List<String> destinations(List<Message<?>> messages) {
+        return messages.stream()
+                .map(message -> SimpMessageHeaderAccessor.wrap(message).getDestination())
+                .toList();
+    }
+}
@@ -0,0 +1,124 @@
+package org.di.digital.config.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Two nodes in {@code redis} broker mode: two application contexts, each with its own
+ * broker channel and a {@link RedisBrokerBridge} built by {@link RedisBrokerBridgeConfig},
+ * connected by an in-memory stand-in for Redis pub/sub that, like Redis, delivers every
+ * publish to all subscribed bridges including the publisher's.
+ */
+final class TwoNodeBridge implements AutoCloseable {
+
+    private final List<RedisBrokerBridge> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicLong published = new AtomicLong();
+    private final StringRedisTemplate redis = mock(StringRedisTemplate.class);
+
+    final Node first;
+    final Node second;
+
+    TwoNodeBridge() {
+        doAnswer(invocation -> {
+            published.incrementAndGet();
+            byte[] channel = invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8);
+            byte[] body = String.valueOf(invocation.<Object>getArgument(1)).getBytes(StandardCharsets.UTF_8);
+            subscribers.forEach(bridge -> bridge.onMessage(new DefaultMessage(channel, body), null));
+            return (long) subscribers.size();
+        }).when(redis).convertAndSend(anyString(), any());
+
+        first = new Node(redis);
+        second = new Node(redis);
+        subscribers.add(first.bridge);
+        subscribers.add(second.bridge);
+    }
+
+    long published() {
+        return published.get();
+    }
+
+    @Override
+    public void close() {
+        first.context.close();
+        second.context.close();
+    }
+
+    static final class Node {
+        final AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        final RedisBrokerBridge bridge;
+        final SimpMessagingTemplate template;
+        final List<Message<?>> delivered = new CopyOnWriteArrayList<>();
+
+        private Node(StringRedisTemplate redis) {
+            context.registerBean(StringRedisTemplate.class, () -> redis);
+            context.register(NodeConfig.class);
+            context.refresh();
+
+            bridge = context.getBean(RedisBrokerBridge.class);
+            template = context.getBean(SimpMessagingTemplate.class);
+            ExecutorSubscribableChannel brokerChannel = context.getBean("brokerChannel", ExecutorSubscribableChannel.class);
+            brokerChannel.addInterceptor(bridge);
+            // stands in for the simple broker that fans the message out to local sessions
+            brokerChannel.subscribe(delivered::add);
+        }
+    }
+
+    @Configuration
+    static class NodeConfig {
+
+        @Bean
+        ExecutorSubscribableChannel brokerChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        SimpMessagingTemplate simpMessagingTemplate(MessageChannel brokerChannel) {
+            // same converters as the broker template of the application: payloads reach the channel as byte[]
+            SimpMessagingTemplate template = new SimpMessagingTemplate(brokerChannel);
+            template.setMessageConverter(new CompositeMessageConverter(
+                    List.of(new StringMessageConverter(), new ByteArrayMessageConverter())));
+            return template;
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        WebSocketBrokerProperties webSocketBrokerProperties() {
+            WebSocketBrokerProperties properties = new WebSocketBrokerProperties();
+            properties.setType(WebSocketBrokerProperties.Type.REDIS);
+            return properties;
+        }
+
+        // the listener container of RedisBrokerBridgeConfig is left out: the stand-in
+        // delivers published messages to the bridges directly
+        @Bean
+        RedisBrokerBridge redisBrokerBridge(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                            MessageChannel brokerChannel, WebSocketBrokerProperties properties) {
+            return new RedisBrokerBridgeConfig().redisBrokerBridge(redisTemplate, objectMapper, brokerChannel, properties);
+        }
+    }
+}